@@ -0,0 +1,55 @@
+package com.warriorfoot.api.benchmark;
+
+import com.warriorfoot.api.config.GameConstants;
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.util.LeagueGenerator;
+import com.warriorfoot.api.util.PlayerFactory;
+import com.warriorfoot.api.util.TeamFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenerationBenchmark {
+
+    private Team team;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        team = new Team();
+        team.setName("Benchmark FC");
+        team.setDivisionLevel(GameConstants.STARTING_DIVISION);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GameConstants.PLAYERS_PER_TEAM)
+    public List<Player> singlePlayer() {
+        return new PlayerFactory(new SplittableRandom(seed++)).generatePlayersForTeam(team);
+    }
+
+    @Benchmark
+    public List<Player> sequentialLeague() {
+        League league = new League();
+        TeamFactory teamFactory = new TeamFactory(seed);
+        PlayerFactory playerFactory = new PlayerFactory(seed++);
+
+        List<Player> players = new ArrayList<>(GameConstants.TOTAL_TEAMS_PER_LEAGUE * GameConstants.PLAYERS_PER_TEAM);
+        for (Team generated : teamFactory.generateTeams(league, GameConstants.TOTAL_TEAMS_PER_LEAGUE)) {
+            players.addAll(playerFactory.generatePlayersForTeam(generated));
+        }
+        return players;
+    }
+
+    @Benchmark
+    public LeagueGenerator.GeneratedLeague seededParallelLeague() {
+        return new LeagueGenerator(seed++).generate(new League());
+    }
+}
@@ -0,0 +1,31 @@
+package com.warriorfoot.api.benchmark;
+
+import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.service.PlayerService;
+import com.warriorfoot.api.util.LeagueGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerMappingBenchmark {
+
+    private List<Player> players;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = new LeagueGenerator(42L).generate(new League()).players();
+    }
+
+    @Benchmark
+    public PlayerDetailsDTO toDetailsDTO() {
+        Player player = players.get(next++ % players.size());
+        return PlayerService.toDetailsDTO(player);
+    }
+}
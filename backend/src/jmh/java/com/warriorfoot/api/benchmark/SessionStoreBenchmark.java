@@ -0,0 +1,116 @@
+package com.warriorfoot.api.benchmark;
+
+import com.warriorfoot.api.config.RedisConfig;
+import com.warriorfoot.api.config.SessionStoreConfig;
+import com.warriorfoot.api.security.SessionPrincipal;
+import com.warriorfoot.api.session.InMemorySessionStore;
+import com.warriorfoot.api.session.RedisSessionStore;
+import com.warriorfoot.api.session.SessionStore;
+import com.warriorfoot.api.session.TieredSessionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent create/lookup/delete throughput of the {@link SessionStore} backends. REDIS and
+ * TIERED need a Redis server on localhost:6379 (docker-compose up -d redis).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class SessionStoreBenchmark {
+
+    private static final int WARM_SESSIONS = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Param({"MEMORY", "REDIS", "TIERED"})
+    public SessionStoreConfig.Backend backend;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SessionStore store;
+    private String[] warmTokens;
+    private SessionPrincipal session;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = switch (backend) {
+            case MEMORY -> new InMemorySessionStore();
+            case REDIS -> new RedisSessionStore(redisTemplate());
+            case TIERED -> {
+                RedisTemplate<String, Object> redisTemplate = redisTemplate();
+                listenerContainer = new RedisMessageListenerContainer();
+                listenerContainer.setConnectionFactory(connectionFactory);
+                listenerContainer.afterPropertiesSet();
+                listenerContainer.start();
+                yield new TieredSessionStore(new RedisSessionStore(redisTemplate), redisTemplate, listenerContainer,
+                    new SimpleMeterRegistry(), 50_000, Duration.ofSeconds(30));
+            }
+        };
+
+        session = new SessionPrincipal(UUID.randomUUID(), UUID.randomUUID());
+        warmTokens = new String[WARM_SESSIONS];
+        for (int i = 0; i < warmTokens.length; i++) {
+            warmTokens[i] = UUID.randomUUID().toString();
+            store.save(warmTokens[i], session, TTL);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        for (String token : warmTokens) {
+            store.delete(token);
+        }
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+            listenerContainer.destroy();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Benchmark
+    public void create() {
+        store.save(UUID.randomUUID().toString(), session, Duration.ofSeconds(5));
+    }
+
+    @Benchmark
+    public Object lookup() {
+        return store.find(warmTokens[ThreadLocalRandom.current().nextInt(warmTokens.length)]);
+    }
+
+    /**
+     * Login, a few authenticated requests, logout.
+     */
+    @Benchmark
+    public Object sessionLifecycle() {
+        String token = UUID.randomUUID().toString();
+        store.save(token, session, TTL);
+        Object last = null;
+        for (int i = 0; i < 4; i++) {
+            last = store.find(token);
+        }
+        store.delete(token);
+        return last;
+    }
+
+    private RedisTemplate<String, Object> redisTemplate() {
+        connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,52 @@
+package com.warriorfoot.api.benchmark;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.util.LeagueGenerator;
+import com.warriorfoot.api.util.StatWeights;
+import com.warriorfoot.api.util.StatWeights.WeightMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StatWeightsBenchmark {
+
+    @Param({"FIXED", "POSITIONAL"})
+    private WeightMode mode;
+
+    private List<Player> players;
+    private Player.Position[] positions;
+    private byte[] packedStats;
+    private int[] overalls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = new LeagueGenerator(42L).generate(new League()).players();
+
+        positions = new Player.Position[players.size()];
+        packedStats = new byte[players.size() * Player.Stat.COUNT];
+        for (int i = 0; i < players.size(); i++) {
+            positions[i] = players.get(i).getPosition();
+            System.arraycopy(players.get(i).getStats(), 0, packedStats, i * Player.Stat.COUNT, Player.Stat.COUNT);
+        }
+        overalls = new int[players.size()];
+    }
+
+    @Benchmark
+    public void perPlayer(Blackhole blackhole) {
+        for (int i = 0; i < players.size(); i++) {
+            blackhole.consume(StatWeights.calculateOverall(players.get(i), mode));
+        }
+    }
+
+    @Benchmark
+    public int[] leagueFromPackedStats() {
+        StatWeights.calculateOveralls(positions, packedStats, mode, overalls);
+        return overalls;
+    }
+}
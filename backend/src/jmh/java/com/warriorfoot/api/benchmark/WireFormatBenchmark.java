@@ -0,0 +1,75 @@
+package com.warriorfoot.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warriorfoot.api.codec.BinaryCodec;
+import com.warriorfoot.api.model.dto.PlayerDTO;
+import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.service.PlayerService;
+import com.warriorfoot.api.util.LeagueGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON vs {@link BinaryCodec} for a roster listing and a single player detail view.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WireFormatBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<PlayerDTO> roster;
+    private PlayerDetailsDTO details;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Team team = new LeagueGenerator(42L).generateTeams(new League()).get(0);
+        List<Player> players = LeagueGenerator.generateVirtualRoster(team);
+        roster = players.stream()
+            .map(p -> new PlayerDTO(p.getId(), p.getName(), p.getAge(), p.getPosition().name(),
+                p.getOverall(), p.getMarketValue()))
+            .toList();
+        details = PlayerService.toDetailsDTO(players.get(0));
+
+        System.out.printf("%nroster: json=%d bytes, binary=%d bytes%n", rosterJson().length, rosterBinary().length);
+        System.out.printf("details: json=%d bytes, binary=%d bytes%n", detailsJson().length, detailsBinary().length);
+    }
+
+    @Benchmark
+    public byte[] rosterJson() throws IOException {
+        return objectMapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public byte[] rosterBinary() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.writeList(roster, BinaryCodec.TAG_PLAYER, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] detailsJson() throws IOException {
+        return objectMapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public byte[] detailsBinary() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        BinaryCodec.write(details, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+}
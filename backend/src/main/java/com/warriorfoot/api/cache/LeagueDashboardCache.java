@@ -0,0 +1,135 @@
+package com.warriorfoot.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warriorfoot.api.model.dto.LeagueDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Caches the assembled league dashboard per league in Redis, as a hash holding the dashboard and
+ * the league version it was built from. Membership changes bump the league version, so a read
+ * only accepts an entry built at the version it just read, and a write never replaces a newer
+ * entry. A reader that loaded its dashboard before a concurrent commit can therefore still write
+ * it, but no reader that has seen the new version will serve it. The TTL only bounds memory.
+ */
+@Component
+public class LeagueDashboardCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LeagueDashboardCache.class);
+
+    // Hash entries; the previous plain-string entries lived under "league-dashboard:" and expire on their own
+    private static final String KEY_PREFIX = "league-dashboard:v2:";
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private static final byte[] VERSION = bytes("version");
+    private static final byte[] DASHBOARD = bytes("dashboard");
+
+    // Write unless the entry already holds a newer version
+    private static final byte[] PUT_IF_NOT_OLDER = bytes(
+        "local current = redis.call('HGET', KEYS[1], 'version') " +
+        "if current and tonumber(current) > tonumber(ARGV[1]) then return 0 end " +
+        "redis.call('HSET', KEYS[1], 'version', ARGV[1], 'dashboard', ARGV[2]) " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[3]) return 1");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Jackson2JsonRedisSerializer<LeagueDTO> serializer;
+    private final Counter hits;
+    private final Counter misses;
+
+    public LeagueDashboardCache(RedisTemplate<String, Object> redisTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.serializer = new Jackson2JsonRedisSerializer<>(objectMapper, LeagueDTO.class);
+        this.hits = meterRegistry.counter("warriorfoot.cache.league-dashboard", "result", "hit");
+        this.misses = meterRegistry.counter("warriorfoot.cache.league-dashboard", "result", "miss");
+    }
+
+    /**
+     * Returns the cached dashboard if it was built at {@code version}; entries from any other
+     * version count as a miss.
+     */
+    public Optional<LeagueDTO> get(UUID leagueId, long version) {
+        byte[] key = key(leagueId);
+        try {
+            List<byte[]> fields = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.hashCommands().hMGet(key, VERSION, DASHBOARD));
+            if (fields != null && fields.get(0) != null && fields.get(1) != null
+                    && Long.parseLong(new String(fields.get(0), StandardCharsets.UTF_8)) == version) {
+                hits.increment();
+                return Optional.ofNullable(serializer.deserialize(fields.get(1)));
+            }
+        } catch (RuntimeException e) {
+            log.debug("League dashboard cache read failed for {}", leagueId, e);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a dashboard built after reading {@code version}. Ignored if the cache already holds
+     * a newer one.
+     */
+    public void put(UUID leagueId, long version, LeagueDTO dashboard) {
+        byte[] key = key(leagueId);
+        byte[] value = serializer.serialize(dashboard);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                PUT_IF_NOT_OLDER, ReturnType.INTEGER, 1, key,
+                bytes(Long.toString(version)), value, bytes(Long.toString(TTL.toSeconds()))));
+        } catch (RuntimeException e) {
+            log.debug("League dashboard cache write failed for {}", leagueId, e);
+        }
+    }
+
+    /**
+     * Evicts the league's dashboard once the current transaction commits. Correctness does not
+     * depend on it, since stale versions are never served; it just frees the entry early.
+     */
+    public void evictAfterCommit(UUID leagueId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(leagueId);
+                }
+            });
+        } else {
+            evict(leagueId);
+        }
+    }
+
+    /**
+     * Best effort: runs after commit, where a Redis failure must not fail the committed request.
+     */
+    public void evict(UUID leagueId) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(key(leagueId)));
+        } catch (RuntimeException e) {
+            log.warn("League dashboard cache eviction failed for {}", leagueId, e);
+        }
+    }
+
+    private static byte[] key(UUID leagueId) {
+        return bytes(KEY_PREFIX + leagueId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
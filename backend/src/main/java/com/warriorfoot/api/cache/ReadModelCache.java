@@ -0,0 +1,192 @@
+package com.warriorfoot.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.warriorfoot.api.model.dto.PlayerDTO;
+import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
+import com.warriorfoot.api.model.dto.TeamDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Two-tier caches for the team and player read models. Writes invalidate after commit: the
+ * Redis entry is deleted and a message on {@link #CHANNEL} tells every node to drop its near copy.
+ * League invalidations travel on the same channel for node-local state derived from a league.
+ */
+@Component
+public class ReadModelCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadModelCache.class);
+
+    public static final String CHANNEL = "warriorfoot:read-model-invalidation";
+
+    private static final String TEAM = "team";
+    private static final String PLAYER = "player";
+    private static final String LEAGUE = "league";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final TwoTierCache<TeamDTO> teams;
+    private final TwoTierCache<List<PlayerDTO>> teamPlayers;
+    private final TwoTierCache<PlayerDetailsDTO> players;
+
+    private final List<Consumer<UUID>> playerInvalidationListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<UUID>> leagueInvalidationListeners = new CopyOnWriteArrayList<>();
+
+    public ReadModelCache(RedisTemplate<String, Object> redisTemplate,
+                          RedisMessageListenerContainer listenerContainer,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${warriorfoot.cache.read-model.near-max-size:10000}") long nearMaxSize,
+                          @Value("${warriorfoot.cache.read-model.near-ttl-seconds:60}") long nearTtlSeconds,
+                          @Value("${warriorfoot.cache.read-model.redis-ttl-seconds:3600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+
+        Duration nearTtl = Duration.ofSeconds(nearTtlSeconds);
+        Duration redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.teams = new TwoTierCache<>("team", objectMapper.constructType(TeamDTO.class),
+            redisTemplate, objectMapper, meterRegistry, nearMaxSize, nearTtl, redisTtl);
+        this.teamPlayers = new TwoTierCache<>("team-players",
+            objectMapper.getTypeFactory().constructCollectionType(List.class, PlayerDTO.class),
+            redisTemplate, objectMapper, meterRegistry, nearMaxSize, nearTtl, redisTtl);
+        this.players = new TwoTierCache<>("player-details", objectMapper.constructType(PlayerDetailsDTO.class),
+            redisTemplate, objectMapper, meterRegistry, nearMaxSize, nearTtl, redisTtl);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public TwoTierCache<TeamDTO> teams() {
+        return teams;
+    }
+
+    public TwoTierCache<List<PlayerDTO>> teamPlayers() {
+        return teamPlayers;
+    }
+
+    public TwoTierCache<PlayerDetailsDTO> players() {
+        return players;
+    }
+
+    /**
+     * Registers a callback for player invalidations from any node, including this one. Runs on
+     * the Redis listener thread.
+     */
+    public void addPlayerInvalidationListener(Consumer<UUID> listener) {
+        playerInvalidationListeners.add(listener);
+    }
+
+    /**
+     * Registers a callback for league invalidations from any node, including this one. Runs on
+     * the Redis listener thread, and also on the invalidating thread on the node that commits.
+     */
+    public void addLeagueInvalidationListener(Consumer<UUID> listener) {
+        leagueInvalidationListeners.add(listener);
+    }
+
+    /**
+     * Tells every node to drop state derived from the league once the current transaction
+     * commits. This node is notified directly, so it does not depend on the message.
+     */
+    public void invalidateLeagueAfterCommit(UUID leagueId) {
+        afterCommit(() -> {
+            leagueInvalidationListeners.forEach(listener -> listener.accept(leagueId));
+            publish(LEAGUE, leagueId);
+        });
+    }
+
+    /**
+     * Invalidates the team and its roster listing once the current transaction commits.
+     */
+    public void invalidateTeamAfterCommit(UUID teamId) {
+        afterCommit(() -> {
+            teams.evict(teamId);
+            teamPlayers.evict(teamId);
+            publish(TEAM, teamId);
+        });
+    }
+
+    /**
+     * Invalidates the player's details and the owning team's roster listing once the current
+     * transaction commits.
+     */
+    public void invalidatePlayerAfterCommit(UUID playerId, UUID teamId) {
+        afterCommit(() -> {
+            players.evict(playerId);
+            publish(PLAYER, playerId);
+            if (teamId != null) {
+                teamPlayers.evict(teamId);
+                publish(TEAM, teamId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+
+        UUID id;
+        try {
+            id = UUID.fromString(body.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+
+        switch (body.substring(0, separator)) {
+            case TEAM -> {
+                teams.evictLocal(id);
+                teamPlayers.evictLocal(id);
+            }
+            case PLAYER -> {
+                players.evictLocal(id);
+                playerInvalidationListeners.forEach(listener -> listener.accept(id));
+            }
+            case LEAGUE -> leagueInvalidationListeners.forEach(listener -> listener.accept(id));
+            default -> log.warn("Ignoring unknown cache invalidation message: {}", body);
+        }
+    }
+
+    private void publish(String kind, UUID id) {
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        byte[] body = (kind + ":" + id).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation for {} {}", kind, id, e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
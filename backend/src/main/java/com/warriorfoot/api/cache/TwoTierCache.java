@@ -0,0 +1,258 @@
+package com.warriorfoot.api.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.warriorfoot.api.datasource.PrimaryStickiness;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache with a bounded in-process near tier (W-TinyLFU, size and TTL bound) in
+ * front of Redis. Cross-node invalidation is driven by {@link ReadModelCache}.
+ * <p>
+ * Every eviction bumps a per-key generation counter in Redis. A value loaded on a miss is only
+ * written back if the generation it read alongside the miss is still current, so a load that
+ * raced an invalidation cannot re-cache pre-commit data. Near-tier puts are dropped the same way
+ * when an invalidation reached this node while the value was being fetched. Loads read from the
+ * primary when replica routing is on, since a lagging replica would undo the invalidation.
+ */
+public class TwoTierCache<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private static final byte[] NO_GENERATION = bytes("0");
+
+    private static final byte[] SET_IF_GENERATION = bytes(
+        "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+        "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) return 1 end return 0");
+
+    private static final byte[] INVALIDATE = bytes(
+        "redis.call('DEL', KEYS[1]) redis.call('INCR', KEYS[2]) " +
+        "redis.call('EXPIRE', KEYS[2], ARGV[1]) return 1");
+
+    private final String name;
+    private final Cache<UUID, V> near;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Jackson2JsonRedisSerializer<V> serializer;
+    private final Duration redisTtl;
+
+    // Bumped before every near-tier invalidation on this node
+    private final AtomicLong localInvalidations = new AtomicLong();
+
+    private final Counter nearHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public TwoTierCache(String name,
+                        JavaType valueType,
+                        RedisTemplate<String, Object> redisTemplate,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        long nearMaxSize,
+                        Duration nearTtl,
+                        Duration redisTtl) {
+        this.name = name;
+        this.near = Caffeine.newBuilder()
+            .maximumSize(nearMaxSize)
+            .expireAfterWrite(nearTtl)
+            .recordStats()
+            .build();
+        this.redisTemplate = redisTemplate;
+        this.serializer = new Jackson2JsonRedisSerializer<>(objectMapper, valueType);
+        this.redisTtl = redisTtl;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, near, name);
+        this.nearHits = meterRegistry.counter("warriorfoot.cache.read-model", "cache", name, "tier", "near");
+        this.redisHits = meterRegistry.counter("warriorfoot.cache.read-model", "cache", name, "tier", "redis");
+        this.misses = meterRegistry.counter("warriorfoot.cache.read-model", "cache", name, "tier", "miss");
+    }
+
+    /**
+     * Returns the cached value, falling back to Redis and then to {@code loader}. Loaded values
+     * are written to both tiers unless the entry was invalidated meanwhile.
+     */
+    public V get(UUID id, Function<UUID, V> loader) {
+        V value = near.getIfPresent(id);
+        if (value != null) {
+            nearHits.increment();
+            return value;
+        }
+
+        long invalidations = localInvalidations.get();
+        byte[] key = key(id);
+        byte[] generationKey = generationKey(id);
+        byte[] generation = null;
+        try {
+            List<byte[]> values = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(key, generationKey));
+            if (values != null) {
+                if (values.get(0) != null) {
+                    value = serializer.deserialize(values.get(0));
+                }
+                generation = values.get(1) != null ? values.get(1) : NO_GENERATION;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Cache {} read failed for {}", name, id, e);
+        }
+        if (value != null) {
+            redisHits.increment();
+            putNear(id, value, invalidations);
+            return value;
+        }
+
+        misses.increment();
+        value = PrimaryStickiness.onPrimary(() -> loader.apply(id));
+        putNear(id, value, invalidations);
+        if (generation != null) {
+            byte[] expected = generation;
+            byte[] bytes = serializer.serialize(value);
+            try {
+                redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    SET_IF_GENERATION, ReturnType.INTEGER, 2, key, generationKey, expected, bytes, ttlSeconds()));
+            } catch (RuntimeException e) {
+                log.debug("Cache {} write failed for {}", name, id, e);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Batch variant of {@link #get}: near hits first, then one MGET for the rest, then a single
+     * {@code loader} call for whatever is still missing. Ids the loader does not return are
+     * absent from the result.
+     */
+    public Map<UUID, V> getAll(Collection<UUID> ids, Function<Set<UUID>, Map<UUID, V>> loader) {
+        Map<UUID, V> found = new HashMap<>(near.getAllPresent(ids));
+        nearHits.increment(found.size());
+
+        List<UUID> remaining = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        // Values for the remaining ids followed by their generations, in one MGET
+        long invalidations = localInvalidations.get();
+        byte[][] keys = new byte[remaining.size() * 2][];
+        for (int i = 0; i < remaining.size(); i++) {
+            keys[i] = key(remaining.get(i));
+            keys[remaining.size() + i] = generationKey(remaining.get(i));
+        }
+        Map<UUID, byte[]> generations = new HashMap<>();
+        try {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+            for (int i = 0; values != null && i < remaining.size(); i++) {
+                UUID id = remaining.get(i);
+                byte[] generation = values.get(remaining.size() + i);
+                generations.put(id, generation != null ? generation : NO_GENERATION);
+                if (values.get(i) != null) {
+                    V value = serializer.deserialize(values.get(i));
+                    found.put(id, value);
+                    putNear(id, value, invalidations);
+                    redisHits.increment();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Cache {} batch read failed", name, e);
+        }
+
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (UUID id : remaining) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        misses.increment(missing.size());
+        Map<UUID, V> loaded = PrimaryStickiness.onPrimary(() -> loader.apply(missing));
+        loaded.forEach((id, value) -> putNear(id, value, invalidations));
+        found.putAll(loaded);
+        if (generations.isEmpty()) {
+            return found;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] ttl = ttlSeconds();
+                loaded.forEach((id, value) -> connection.scriptingCommands().eval(
+                    SET_IF_GENERATION, ReturnType.INTEGER, 2, key(id), generationKey(id),
+                    generations.get(id), serializer.serialize(value), ttl));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.debug("Cache {} batch write failed", name, e);
+        }
+        return found;
+    }
+
+    /**
+     * Drops this node's near copy, then deletes the Redis entry and bumps its generation. Other
+     * nodes drop their near copy when they receive the invalidation message. Redis failures are
+     * logged rather than thrown, since this runs after commit and the message must still go out.
+     */
+    public void evict(UUID id) {
+        evictLocal(id);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                INVALIDATE, ReturnType.INTEGER, 2, key(id), generationKey(id), ttlSeconds()));
+        } catch (RuntimeException e) {
+            log.warn("Cache {} eviction failed for {}", name, id, e);
+        }
+    }
+
+    public void evictLocal(UUID id) {
+        localInvalidations.incrementAndGet();
+        near.invalidate(id);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // A put that raced an invalidation on this node is undone; the invalidation itself removes
+    // any put that lands before it
+    private void putNear(UUID id, V value, long invalidationsBefore) {
+        near.put(id, value);
+        if (localInvalidations.get() != invalidationsBefore) {
+            near.invalidate(id);
+        }
+    }
+
+    private byte[] ttlSeconds() {
+        return bytes(Long.toString(redisTtl.toSeconds()));
+    }
+
+    private byte[] key(UUID id) {
+        return bytes(name + ":" + id);
+    }
+
+    private byte[] generationKey(UUID id) {
+        return bytes(name + ":generation:" + id);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
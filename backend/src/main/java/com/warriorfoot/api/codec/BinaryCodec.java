@@ -0,0 +1,167 @@
+package com.warriorfoot.api.codec;
+
+import com.warriorfoot.api.model.dto.PlayerDTO;
+import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
+import com.warriorfoot.api.model.dto.TeamDTO;
+import com.warriorfoot.api.model.entity.Player;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Fixed-layout binary encoding for the player and team read models, served as
+ * {@value #MEDIA_TYPE_VALUE}. Big-endian. A payload starts with a one-byte tag; list payloads
+ * set {@link #LIST_FLAG} on the tag and follow it with an int32 count.
+ * <ul>
+ *   <li>UUID: 16 bytes. String: uint16 byte length and UTF-8 bytes, {@code 0xFFFF} for null.</li>
+ *   <li>{@link #TAG_PLAYER}: id, name, age (u8), position ({@link Player.Position} ordinal, u8),
+ *       overall (u8), marketValue (int64)</li>
+ *   <li>{@link #TAG_PLAYER_DETAILS}: the player fields, then {@link Player.Stat#COUNT} stat
+ *       bytes in {@link Player.Stat} order, 0 for null</li>
+ *   <li>{@link #TAG_TEAM}: id, name, colorPrimary, colorSecondary, divisionLevel (u8), managerName</li>
+ * </ul>
+ * The matching decoder lives in {@code frontend/src/api/binaryCodec.ts}.
+ */
+public final class BinaryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.warriorfoot.binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public static final int TAG_PLAYER = 1;
+    public static final int TAG_PLAYER_DETAILS = 2;
+    public static final int TAG_TEAM = 3;
+    public static final int LIST_FLAG = 0x80;
+
+    private static final int NULL_STRING = 0xFFFF;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * Returns the tag for a supported DTO class, or 0 when the class has no binary layout.
+     */
+    public static int tagOf(Class<?> type) {
+        if (type == PlayerDTO.class) {
+            return TAG_PLAYER;
+        } else if (type == PlayerDetailsDTO.class) {
+            return TAG_PLAYER_DETAILS;
+        } else if (type == TeamDTO.class) {
+            return TAG_TEAM;
+        }
+        return 0;
+    }
+
+    public static void write(Object value, DataOutputStream out) throws IOException {
+        int tag = tagOf(value.getClass());
+        out.writeByte(tag);
+        writeElement(tag, value, out);
+    }
+
+    public static void writeList(Collection<?> values, int tag, DataOutputStream out) throws IOException {
+        out.writeByte(tag | LIST_FLAG);
+        out.writeInt(values.size());
+        for (Object value : values) {
+            writeElement(tag, value, out);
+        }
+    }
+
+    /**
+     * ETag derived from the list's contents (a truncated SHA-256 of its binary encoding), for
+     * resources that have no version column of their own.
+     */
+    public static String contentETag(Collection<?> values, int tag) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            writeList(values, tag, new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest)));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute content ETag", e);
+        }
+    }
+
+    /**
+     * Binary and JSON bodies of the same resource must not share a strong ETag.
+     */
+    public static String representationETag(String etag, WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MEDIA_TYPE_VALUE) ? etag + "-bin" : etag;
+    }
+
+    private static void writeElement(int tag, Object value, DataOutputStream out) throws IOException {
+        switch (tag) {
+            case TAG_PLAYER -> writePlayer((PlayerDTO) value, out);
+            case TAG_PLAYER_DETAILS -> writePlayerDetails((PlayerDetailsDTO) value, out);
+            case TAG_TEAM -> writeTeam((TeamDTO) value, out);
+            default -> throw new IllegalArgumentException("No binary layout for " + value.getClass().getSimpleName());
+        }
+    }
+
+    private static void writePlayer(PlayerDTO p, DataOutputStream out) throws IOException {
+        writePlayerHeader(p.id(), p.name(), p.age(), p.position(), p.overall(), p.marketValue(), out);
+    }
+
+    private static void writePlayerDetails(PlayerDetailsDTO p, DataOutputStream out) throws IOException {
+        writePlayerHeader(p.id(), p.name(), p.age(), p.position(), p.overall(), p.marketValue(), out);
+        // Same order as Player.Stat
+        Integer[] stats = {
+            p.pace(), p.acceleration(), p.sprintSpeed(),
+            p.shooting(), p.attPosition(), p.finishing(), p.shotPower(), p.longShots(), p.volleys(), p.penalties(),
+            p.passing(), p.vision(), p.crossing(), p.fkAcc(), p.shortPass(), p.longPass(), p.curve(),
+            p.dribbling(), p.agility(), p.balance(), p.reactions(), p.ballControl(), p.dribblingSkill(), p.composure(),
+            p.defending(), p.interceptions(), p.headingAcc(), p.defAware(), p.standTackle(), p.slideTackle(),
+            p.physical(), p.jumping(), p.stamina(), p.strength(), p.aggression(),
+            p.diving(), p.handling(), p.kicking(), p.reflexes(), p.speed(), p.positioning()
+        };
+        for (Integer stat : stats) {
+            out.writeByte(stat != null ? stat : 0);
+        }
+    }
+
+    private static void writeTeam(TeamDTO t, DataOutputStream out) throws IOException {
+        writeUuid(t.id(), out);
+        writeString(t.name(), out);
+        writeString(t.colorPrimary(), out);
+        writeString(t.colorSecondary(), out);
+        out.writeByte(t.divisionLevel());
+        writeString(t.managerName(), out);
+    }
+
+    private static void writePlayerHeader(UUID id, String name, int age, String position, int overall,
+                                          long marketValue, DataOutputStream out) throws IOException {
+        writeUuid(id, out);
+        writeString(name, out);
+        out.writeByte(age);
+        out.writeByte(Player.Position.valueOf(position).ordinal());
+        out.writeByte(overall);
+        out.writeLong(marketValue);
+    }
+
+    private static void writeUuid(UUID id, DataOutputStream out) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("String too long for binary encoding");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
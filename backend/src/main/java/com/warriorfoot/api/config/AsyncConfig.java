@@ -0,0 +1,23 @@
+package com.warriorfoot.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor leagueProvisioningExecutor(
+            @Value("${warriorfoot.provisioning.pool-size:2}") int poolSize,
+            @Value("${warriorfoot.provisioning.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("league-provisioning-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
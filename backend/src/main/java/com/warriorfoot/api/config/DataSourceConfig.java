@@ -0,0 +1,93 @@
+package com.warriorfoot.api.config;
+
+import com.warriorfoot.api.datasource.PrimaryStickiness;
+import com.warriorfoot.api.datasource.PrimaryStickinessFilter;
+import com.warriorfoot.api.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica routing, enabled with {@code warriorfoot.datasource.replica.enabled}. Without
+ * it the auto-configured single DataSource is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "warriorfoot.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${warriorfoot.datasource.replica.url}") String url,
+            @Value("${warriorfoot.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${warriorfoot.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${warriorfoot.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public PrimaryStickiness primaryStickiness(
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${warriorfoot.datasource.replica.sticky-seconds:5}") long stickySeconds,
+            @Value("${warriorfoot.datasource.replica.sticky-max-sessions:100000}") long maxSessions) {
+        return new PrimaryStickiness(redisTemplate, Duration.ofSeconds(stickySeconds), maxSessions);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PrimaryStickinessFilter> primaryStickinessFilter(PrimaryStickiness stickiness) {
+        FilterRegistrationBean<PrimaryStickinessFilter> registration =
+            new FilterRegistrationBean<>(new PrimaryStickinessFilter(stickiness));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 PrimaryStickiness stickiness,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(stickiness, meterRegistry);
+        routing.setTargetDataSources(Map.<Object, Object>of(
+            ReplicaRoutingDataSource.Target.PRIMARY, primary,
+            ReplicaRoutingDataSource.Target.REPLICA, replica
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        // Defers fetching the physical connection until the first statement, by which point the
+        // transaction's read-only flag is bound and the router can see it
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
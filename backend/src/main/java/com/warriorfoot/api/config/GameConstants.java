@@ -31,6 +31,11 @@ public final class GameConstants {
     public static final int MIN_PLAYER_OVERALL = 40;
     public static final int MAX_PLAYER_OVERALL = 99;
 
+    // API Limits
+    public static final int MAX_BATCH_IDS = 100;
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_PAGE_SIZE = 100;
+
     // Invite Configuration
     public static final int INVITE_EXPIRATION_DAYS = 7;
 
@@ -1,20 +1,42 @@
 package com.warriorfoot.api.config;
 
+import com.warriorfoot.api.security.SessionAuthenticationFilter;
+import com.warriorfoot.api.service.SessionService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.preauth.AbstractPreAuthenticatedProcessingFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           SessionService sessionService,
+                                           MeterRegistry meterRegistry) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new SessionAuthenticationFilter(sessionService, meterRegistry),
+                AbstractPreAuthenticatedProcessingFilter.class)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/auth/logout", "/auth/active-league").authenticated()
+                .requestMatchers(HttpMethod.GET, "/leagues/user/list", "/leagues/jobs/*").authenticated()
+                .requestMatchers(HttpMethod.POST, "/leagues/create", "/leagues/create-async", "/leagues/*/leave")
+                    .authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/leagues/*").authenticated()
+                .requestMatchers(HttpMethod.POST, "/invites/send").authenticated()
+                .anyRequest().permitAll());
         return http.build();
     }
 }
@@ -0,0 +1,40 @@
+package com.warriorfoot.api.config;
+
+import com.warriorfoot.api.session.InMemorySessionStore;
+import com.warriorfoot.api.session.RedisSessionStore;
+import com.warriorfoot.api.session.SessionStore;
+import com.warriorfoot.api.session.TieredSessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class SessionStoreConfig {
+
+    public enum Backend {
+        MEMORY,
+        REDIS,
+        TIERED
+    }
+
+    @Bean
+    public SessionStore sessionStore(
+            @Value("${warriorfoot.session.store:TIERED}") Backend backend,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${warriorfoot.session.near-max-size:50000}") long nearMaxSize,
+            @Value("${warriorfoot.session.near-ttl-seconds:30}") long nearTtlSeconds) {
+        return switch (backend) {
+            case MEMORY -> new InMemorySessionStore();
+            case REDIS -> new RedisSessionStore(redisTemplate);
+            case TIERED -> new TieredSessionStore(new RedisSessionStore(redisTemplate), redisTemplate,
+                listenerContainer, meterRegistry, nearMaxSize, Duration.ofSeconds(nearTtlSeconds));
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.warriorfoot.api.config;
+
+import com.warriorfoot.api.codec.BinaryHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Appended after JSON so it is only chosen when the client asks for the binary type
+        converters.add(new BinaryHttpMessageConverter());
+    }
+}
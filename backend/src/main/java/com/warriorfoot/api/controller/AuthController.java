@@ -1,14 +1,19 @@
 package com.warriorfoot.api.controller;
 
+import com.warriorfoot.api.model.dto.ActiveLeagueRequest;
 import com.warriorfoot.api.model.dto.AuthResponse;
 import com.warriorfoot.api.model.dto.LoginRequest;
 import com.warriorfoot.api.model.dto.RegisterRequest;
+import com.warriorfoot.api.security.SessionPrincipal;
 import com.warriorfoot.api.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
@@ -39,9 +44,32 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/active-league")
+    public ResponseEntity<Map<String, String>> switchActiveLeague(
+        @Valid @RequestBody ActiveLeagueRequest request,
+        Authentication authentication) {
+        SessionPrincipal principal = (SessionPrincipal) authentication.getPrincipal();
+        try {
+            String sessionToken = authService.switchActiveLeague(
+                (String) authentication.getCredentials(), principal.userId(), request.leagueId());
+            return ResponseEntity.ok(Map.of("sessionToken", sessionToken));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalStateException e) {
+            // The previous token could not be revoked
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token) {
-        authService.logout(token.replace("Bearer ", ""));
+    public ResponseEntity<Void> logout(Authentication authentication) {
+        // The session token is kept as the credentials by SessionAuthenticationFilter
+        try {
+            authService.logout((String) authentication.getCredentials());
+        } catch (IllegalStateException e) {
+            // Not revoked: the client must not treat the session as ended
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
         return ResponseEntity.noContent().build();
     }
 }
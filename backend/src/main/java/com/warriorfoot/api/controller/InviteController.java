@@ -6,12 +6,14 @@ import com.warriorfoot.api.model.entity.Team;
 import com.warriorfoot.api.model.entity.User;
 import com.warriorfoot.api.model.entity.UserLeague;
 import com.warriorfoot.api.repository.UserRepository;
+import com.warriorfoot.api.security.SessionPrincipal;
 import com.warriorfoot.api.service.InviteService;
 import com.warriorfoot.api.service.LeagueService;
 import com.warriorfoot.api.service.SessionService;
 import jakarta.validation.Valid;
 import org.mindrot.jbcrypt.BCrypt;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -40,18 +42,15 @@ public class InviteController {
 
     @PostMapping("/send")
     public ResponseEntity<Void> sendInvite(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal SessionPrincipal principal,
             @Valid @RequestBody InviteRequest request) {
         try {
-            String sessionToken = authHeader.replace("Bearer ", "");
-            UUID userId = sessionService.getUserIdFromSession(sessionToken);
-            UUID activeLeagueId = sessionService.getActiveLeagueIdFromSession(sessionToken);
-
-            if (activeLeagueId == null) {
+            if (principal.activeLeagueId() == null) {
                 return ResponseEntity.badRequest().build();
             }
 
-            inviteService.createInvite(userId, activeLeagueId, request.inviteeEmail(), request.inviteeName());
+            inviteService.createInvite(principal.userId(), principal.activeLeagueId(), request.inviteeEmail(),
+                request.inviteeName());
             return ResponseEntity.status(201).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
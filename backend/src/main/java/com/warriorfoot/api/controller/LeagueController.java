@@ -1,12 +1,22 @@
 package com.warriorfoot.api.controller;
 
 import com.warriorfoot.api.model.dto.LeagueDTO;
+import com.warriorfoot.api.model.dto.ProvisioningJobDTO;
 import com.warriorfoot.api.model.dto.UserLeagueDTO;
 import com.warriorfoot.api.model.entity.UserLeague;
+import com.warriorfoot.api.security.SessionPrincipal;
+import com.warriorfoot.api.service.LeagueProvisioningService;
 import com.warriorfoot.api.service.LeagueService;
-import com.warriorfoot.api.service.SessionService;
+import com.warriorfoot.api.service.LeagueSnapshotService;
+import com.warriorfoot.api.snapshot.SnapshotFormat;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -17,58 +27,95 @@ import java.util.UUID;
 public class LeagueController {
 
     private final LeagueService leagueService;
-    private final SessionService sessionService;
+    private final LeagueProvisioningService leagueProvisioningService;
+    private final LeagueSnapshotService leagueSnapshotService;
 
-    public LeagueController(LeagueService leagueService, SessionService sessionService) {
+    public LeagueController(LeagueService leagueService,
+                            LeagueProvisioningService leagueProvisioningService,
+                            LeagueSnapshotService leagueSnapshotService) {
         this.leagueService = leagueService;
-        this.sessionService = sessionService;
+        this.leagueProvisioningService = leagueProvisioningService;
+        this.leagueSnapshotService = leagueSnapshotService;
     }
 
     @GetMapping("/{leagueId}")
-    public ResponseEntity<LeagueDTO> getLeagueDashboard(@PathVariable UUID leagueId) {
-        LeagueDTO leagueDTO = leagueService.getLeagueDashboard(leagueId);
-        return ResponseEntity.ok(leagueDTO);
+    public ResponseEntity<LeagueDTO> getLeagueDashboard(@PathVariable UUID leagueId, WebRequest webRequest) {
+        String etag = leagueService.getLeagueETag(leagueId).orElse(null);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        try {
+            LeagueDTO leagueDTO = leagueService.getLeagueDashboard(leagueId);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(leagueDTO);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping(value = "/{leagueId}/snapshot", produces = {SnapshotFormat.NDJSON_VALUE, SnapshotFormat.BINARY_VALUE})
+    public ResponseEntity<StreamingResponseBody> getLeagueSnapshot(
+        @PathVariable UUID leagueId,
+        @RequestHeader(value = "Accept", required = false) String accept) {
+        if (!leagueSnapshotService.exists(leagueId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SnapshotFormat format = SnapshotFormat.fromAccept(accept);
+        StreamingResponseBody body = out -> leagueSnapshotService.writeSnapshot(leagueId, format, out);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
     }
 
     @GetMapping("/user/list")
-    public ResponseEntity<List<UserLeagueDTO>> getUserLeagues(@RequestHeader("Authorization") String authHeader) {
-        String sessionToken = authHeader.replace("Bearer ", "");
-        UUID userId = sessionService.getUserIdFromSession(sessionToken);
-        List<UserLeagueDTO> dtos = leagueService.getUserLeaguesWithCreatorFlag(userId);
+    public ResponseEntity<List<UserLeagueDTO>> getUserLeagues(@AuthenticationPrincipal SessionPrincipal principal) {
+        List<UserLeagueDTO> dtos = leagueService.getUserLeaguesWithCreatorFlag(principal.userId());
         return ResponseEntity.ok(dtos);
     }
 
     @PostMapping("/create")
     public ResponseEntity<Map<String, Object>> createNewLeague(
-        @RequestHeader("Authorization") String authHeader,
+        @AuthenticationPrincipal SessionPrincipal principal,
         @RequestBody Map<String, String> request) {
-        String sessionToken = authHeader.replace("Bearer ", "");
-        UUID userId = sessionService.getUserIdFromSession(sessionToken);
         String leagueName = request.getOrDefault("name", "My League");
-        UUID newLeagueId = leagueService.createNewLeagueForUser(userId, leagueName);
-
-        List<UserLeague> userLeagues = leagueService.getUserLeagues(userId);
-        UserLeague newLeague = userLeagues.stream()
-            .filter(ul -> ul.getLeagueId().equals(newLeagueId))
-            .findFirst()
-            .orElseThrow();
+        UserLeague newLeague = leagueService.createNewLeagueForUser(principal.userId(), leagueName);
 
         return ResponseEntity.ok(Map.of(
-            "leagueId", newLeagueId,
+            "leagueId", newLeague.getLeagueId(),
             "teamId", newLeague.getTeam().getId(),
             "teamName", newLeague.getTeam().getName(),
             "divisionLevel", newLeague.getTeam().getDivisionLevel()
         ));
     }
 
+    @PostMapping("/create-async")
+    public ResponseEntity<Map<String, Object>> createNewLeagueAsync(
+        @AuthenticationPrincipal SessionPrincipal principal,
+        @RequestBody Map<String, String> request) {
+        String leagueName = request.getOrDefault("name", "My League");
+
+        try {
+            UUID jobId = leagueProvisioningService.submit(principal.userId(), leagueName);
+            return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+        } catch (TaskRejectedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ProvisioningJobDTO> getProvisioningJob(
+        @PathVariable UUID jobId,
+        @AuthenticationPrincipal SessionPrincipal principal) {
+        return leagueProvisioningService.getJob(jobId, principal.userId())
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{leagueId}")
     public ResponseEntity<Void> deleteLeague(
         @PathVariable UUID leagueId,
-        @RequestHeader("Authorization") String authHeader) {
+        @AuthenticationPrincipal SessionPrincipal principal) {
         try {
-            String sessionToken = authHeader.replace("Bearer ", "");
-            UUID userId = sessionService.getUserIdFromSession(sessionToken);
-            leagueService.deleteLeague(userId, leagueId);
+            leagueService.deleteLeague(principal.userId(), leagueId);
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -80,11 +127,9 @@ public class LeagueController {
     @PostMapping("/{leagueId}/leave")
     public ResponseEntity<Void> leaveLeague(
         @PathVariable UUID leagueId,
-        @RequestHeader("Authorization") String authHeader) {
+        @AuthenticationPrincipal SessionPrincipal principal) {
         try {
-            String sessionToken = authHeader.replace("Bearer ", "");
-            UUID userId = sessionService.getUserIdFromSession(sessionToken);
-            leagueService.leaveLeague(userId, leagueId);
+            leagueService.leaveLeague(principal.userId(), leagueId);
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -1,10 +1,17 @@
 package com.warriorfoot.api.controller;
 
+import com.warriorfoot.api.codec.BinaryCodec;
+import com.warriorfoot.api.model.dto.BatchRequest;
 import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
 import com.warriorfoot.api.service.PlayerService;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -18,8 +25,21 @@ public class PlayerController {
     }
 
     @GetMapping("/{playerId}")
-    public ResponseEntity<PlayerDetailsDTO> getPlayerDetails(@PathVariable UUID playerId) {
+    public ResponseEntity<PlayerDetailsDTO> getPlayerDetails(@PathVariable UUID playerId, WebRequest webRequest) {
+        String etag = playerService.getPlayerETag(playerId)
+            .map(version -> BinaryCodec.representationETag(version, webRequest))
+            .orElse(null);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         PlayerDetailsDTO player = playerService.getPlayerDetails(playerId);
-        return ResponseEntity.ok(player);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(player);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<PlayerDetailsDTO>> getPlayerDetailsBatch(@Valid @RequestBody BatchRequest request) {
+        List<PlayerDetailsDTO> players = playerService.getPlayerDetails(request.ids());
+        return ResponseEntity.ok(players);
     }
 }
@@ -0,0 +1,83 @@
+package com.warriorfoot.api.controller;
+
+import com.warriorfoot.api.config.GameConstants;
+import com.warriorfoot.api.model.dto.PlayerPageDTO;
+import com.warriorfoot.api.model.dto.PlayerSearchResultDTO;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.search.PlayerCursor;
+import com.warriorfoot.api.search.PlayerSearchCriteria;
+import com.warriorfoot.api.service.LeaguePlayerListingService;
+import com.warriorfoot.api.service.PlayerSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/leagues/{leagueId}/players")
+public class ScoutingController {
+
+    private final PlayerSearchService playerSearchService;
+    private final LeaguePlayerListingService leaguePlayerListingService;
+
+    public ScoutingController(PlayerSearchService playerSearchService,
+                              LeaguePlayerListingService leaguePlayerListingService) {
+        this.playerSearchService = playerSearchService;
+        this.leaguePlayerListingService = leaguePlayerListingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PlayerPageDTO> listPlayers(
+        @PathVariable UUID leagueId,
+        @RequestParam(defaultValue = "OVERALL") PlayerSearchCriteria.SortKey sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int limit) {
+        if (sort == PlayerSearchCriteria.SortKey.AGE || limit < 1 || limit > GameConstants.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PlayerCursor after = null;
+        if (cursor != null) {
+            try {
+                after = PlayerCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (after.sort() != sort) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        try {
+            return ResponseEntity.ok(leaguePlayerListingService.listPlayers(leagueId, sort, after, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PlayerSearchResultDTO>> searchPlayers(
+        @PathVariable UUID leagueId,
+        @RequestParam(required = false) Player.Position position,
+        @RequestParam(required = false) Integer minOverall,
+        @RequestParam(required = false) Integer maxOverall,
+        @RequestParam(required = false) Integer minAge,
+        @RequestParam(required = false) Integer maxAge,
+        @RequestParam(required = false) Long minMarketValue,
+        @RequestParam(required = false) Long maxMarketValue,
+        @RequestParam(defaultValue = "OVERALL") PlayerSearchCriteria.SortKey sort,
+        @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > GameConstants.MAX_SEARCH_RESULTS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PlayerSearchCriteria criteria = new PlayerSearchCriteria(position, minOverall, maxOverall,
+            minAge, maxAge, minMarketValue, maxMarketValue, sort, limit);
+        try {
+            return ResponseEntity.ok(playerSearchService.search(leagueId, criteria));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.warriorfoot.api.controller;
 
+import com.warriorfoot.api.codec.BinaryCodec;
+import com.warriorfoot.api.model.dto.BatchRequest;
 import com.warriorfoot.api.model.dto.PlayerDTO;
 import com.warriorfoot.api.model.dto.TeamDTO;
 import com.warriorfoot.api.service.TeamService;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,14 +26,35 @@ public class TeamController {
     }
 
     @GetMapping("/{teamId}")
-    public ResponseEntity<TeamDTO> getTeam(@PathVariable UUID teamId) {
+    public ResponseEntity<TeamDTO> getTeam(@PathVariable UUID teamId, WebRequest webRequest) {
+        String etag = teamService.getTeamETag(teamId)
+            .map(version -> BinaryCodec.representationETag(version, webRequest))
+            .orElse(null);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         TeamDTO team = teamService.getTeamById(teamId);
-        return ResponseEntity.ok(team);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(team);
     }
 
     @GetMapping("/{teamId}/players")
-    public ResponseEntity<List<PlayerDTO>> getTeamPlayers(@PathVariable UUID teamId) {
+    public ResponseEntity<List<PlayerDTO>> getTeamPlayers(@PathVariable UUID teamId, WebRequest webRequest) {
+        // Nothing versions the roster as a whole, so the ETag comes from the (usually near-cached)
+        // listing; a 304 still saves serializing and sending it
         List<PlayerDTO> players = teamService.getTeamPlayers(teamId);
-        return ResponseEntity.ok(players);
+        String etag = BinaryCodec.representationETag(
+            BinaryCodec.contentETag(players, BinaryCodec.TAG_PLAYER), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(players);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TeamDTO>> getTeamsBatch(@Valid @RequestBody BatchRequest request) {
+        List<TeamDTO> teams = teamService.getTeamsByIds(request.ids());
+        return ResponseEntity.ok(teams);
     }
 }
@@ -0,0 +1,203 @@
+package com.warriorfoot.api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.warriorfoot.api.security.SessionPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Replica-lag guard. Once a request commits a write, its user and session tokens (including
+ * any token the request issued, as on register or invite accept) read from the primary for a
+ * few seconds, and so does the rest of that request, so users always see their own changes
+ * even while the replica is catching up. Pins live in Redis so they hold on every node, with a
+ * local copy of this node's own pins to skip the round trip.
+ */
+public class PrimaryStickiness {
+
+    private static final Logger log = LoggerFactory.getLogger(PrimaryStickiness.class);
+
+    private static final String KEY_PREFIX = "primary-sticky:";
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration window;
+    private final Cache<String, Boolean> localPins;
+
+    public PrimaryStickiness(RedisTemplate<String, Object> redisTemplate, Duration window, long maxSessions) {
+        this.redisTemplate = redisTemplate;
+        this.window = window;
+        this.localPins = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .maximumSize(maxSessions)
+            .build();
+    }
+
+    /**
+     * Runs {@code action} with every transaction it starts reading from the primary. Used for
+     * read-through cache loads, which would otherwise keep replica-stale data for the cache's
+     * whole TTL. Has no effect on a connection the caller already holds.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    public void beginRequest(String sessionToken) {
+        CURRENT.set(new RequestContext(sessionToken));
+    }
+
+    public void endRequest() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Records a session token issued by the current request, so it is pinned along with the
+     * request's write, or right away if that write has already committed.
+     */
+    public void sessionIssued(String sessionToken, UUID userId) {
+        RequestContext context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        List<String> keys = List.of(tokenKey(sessionToken), userKey(userId));
+        if (context.wrote) {
+            pinKeys(keys);
+        } else {
+            context.issuedKeys.addAll(keys);
+        }
+    }
+
+    /**
+     * Pins the user to the primary from now on, for writes committed outside a request (such
+     * as async league provisioning).
+     */
+    public void pin(UUID userId) {
+        pinKeys(List.of(userKey(userId)));
+    }
+
+    public boolean isPinnedToPrimary() {
+        if (FORCED.get() != null) {
+            return true;
+        }
+        RequestContext context = CURRENT.get();
+        if (context == null) {
+            return false;
+        }
+        if (context.wrote) {
+            return true;
+        }
+        if (context.pinned == null) {
+            context.pinned = lookupPin(context);
+        }
+        return context.pinned;
+    }
+
+    /**
+     * Called when a read-write transaction acquires a connection; opens the window once that
+     * transaction commits.
+     */
+    public void writeStarted() {
+        RequestContext context = CURRENT.get();
+        if (context == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                context.wrote = true;
+                Set<String> keys = new LinkedHashSet<>(requestKeys(context));
+                keys.addAll(context.issuedKeys);
+                pinKeys(keys);
+            }
+        });
+    }
+
+    private boolean lookupPin(RequestContext context) {
+        List<String> keys = requestKeys(context);
+        if (keys.isEmpty()) {
+            return false;
+        }
+        for (String key : keys) {
+            if (localPins.getIfPresent(key) != null) {
+                return true;
+            }
+        }
+
+        try {
+            List<Object> pins = redisTemplate.opsForValue().multiGet(keys);
+            return pins != null && pins.stream().anyMatch(pin -> pin != null);
+        } catch (RuntimeException e) {
+            // Cannot tell whether a write is still replicating: read from the primary
+            log.debug("Primary pin lookup failed", e);
+            return true;
+        }
+    }
+
+    private void pinKeys(Iterable<String> keys) {
+        for (String key : keys) {
+            localPins.put(key, Boolean.TRUE);
+            try {
+                redisTemplate.opsForValue().set(key, Boolean.TRUE, window);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record primary pin", e);
+            }
+        }
+    }
+
+    private static List<String> requestKeys(RequestContext context) {
+        List<String> keys = new ArrayList<>(2);
+        if (context.sessionToken != null) {
+            keys.add(tokenKey(context.sessionToken));
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SessionPrincipal principal) {
+            keys.add(userKey(principal.userId()));
+        }
+        return keys;
+    }
+
+    private static String tokenKey(String sessionToken) {
+        return KEY_PREFIX + "token:" + sessionToken;
+    }
+
+    private static String userKey(UUID userId) {
+        return KEY_PREFIX + "user:" + userId;
+    }
+
+    private static final class RequestContext {
+
+        private final String sessionToken;
+        private final Set<String> issuedKeys = new LinkedHashSet<>();
+        private boolean wrote;
+        private Boolean pinned;
+
+        private RequestContext(String sessionToken) {
+            this.sessionToken = sessionToken;
+        }
+    }
+}
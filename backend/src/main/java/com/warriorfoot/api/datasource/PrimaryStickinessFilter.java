@@ -0,0 +1,33 @@
+package com.warriorfoot.api.datasource;
+
+import com.warriorfoot.api.security.SessionAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the request's session token to {@link PrimaryStickiness} for the duration of the request.
+ */
+public class PrimaryStickinessFilter extends OncePerRequestFilter {
+
+    private final PrimaryStickiness stickiness;
+
+    public PrimaryStickinessFilter(PrimaryStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        stickiness.beginRequest(SessionAuthenticationFilter.bearerToken(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stickiness.endRequest();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.warriorfoot.api.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary. Must
+ * sit behind a LazyConnectionDataSourceProxy so the connection is only fetched once the
+ * transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final PrimaryStickiness stickiness;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(PrimaryStickiness stickiness, MeterRegistry meterRegistry) {
+        this.stickiness = stickiness;
+        this.primaryRoutes = meterRegistry.counter("warriorfoot.datasource.route", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("warriorfoot.datasource.route", "target", "replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !stickiness.isPinnedToPrimary()) {
+            replicaRoutes.increment();
+            return Target.REPLICA;
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickiness.writeStarted();
+        }
+        primaryRoutes.increment();
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,10 @@
+package com.warriorfoot.api.model.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record ActiveLeagueRequest(
+    @NotNull(message = "League id is required")
+    UUID leagueId
+) {}
@@ -0,0 +1,14 @@
+package com.warriorfoot.api.model.dto;
+
+import com.warriorfoot.api.config.GameConstants;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchRequest(
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = GameConstants.MAX_BATCH_IDS, message = "Too many ids")
+    List<UUID> ids
+) {}
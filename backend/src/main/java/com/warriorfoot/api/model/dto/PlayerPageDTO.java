@@ -0,0 +1,8 @@
+package com.warriorfoot.api.model.dto;
+
+import java.util.List;
+
+public record PlayerPageDTO(
+    List<PlayerSearchResultDTO> players,
+    String nextCursor
+) {}
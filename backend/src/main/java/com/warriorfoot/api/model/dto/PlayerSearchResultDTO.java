@@ -0,0 +1,13 @@
+package com.warriorfoot.api.model.dto;
+
+import java.util.UUID;
+
+public record PlayerSearchResultDTO(
+    UUID id,
+    UUID teamId,
+    String name,
+    Integer age,
+    String position,
+    Integer overall,
+    Long marketValue
+) {}
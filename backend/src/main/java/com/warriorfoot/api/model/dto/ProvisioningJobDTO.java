@@ -0,0 +1,13 @@
+package com.warriorfoot.api.model.dto;
+
+import java.util.UUID;
+
+public record ProvisioningJobDTO(
+    UUID jobId,
+    String status,
+    UUID leagueId,
+    UUID teamId,
+    String teamName,
+    Integer divisionLevel,
+    String error
+) {}
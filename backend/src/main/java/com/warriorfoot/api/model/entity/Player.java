@@ -32,70 +32,19 @@ public class Player {
     @Column(name = "market_value", nullable = false)
     private Long marketValue;
 
-    private Integer pace;
-    private Integer acceleration;
-    @Column(name = "sprint_speed")
-    private Integer sprintSpeed;
-    
-    private Integer shooting;
-    @Column(name = "att_position")
-    private Integer attPosition;
-    private Integer finishing;
-    @Column(name = "shot_power")
-    private Integer shotPower;
-    @Column(name = "long_shots")
-    private Integer longShots;
-    private Integer volleys;
-    private Integer penalties;
-    
-    private Integer passing;
-    private Integer vision;
-    private Integer crossing;
-    @Column(name = "fk_acc")
-    private Integer fkAcc;
-    @Column(name = "short_pass")
-    private Integer shortPass;
-    @Column(name = "long_pass")
-    private Integer longPass;
-    private Integer curve;
-    
-    private Integer dribbling;
-    private Integer agility;
-    private Integer balance;
-    private Integer reactions;
-    @Column(name = "ball_control")
-    private Integer ballControl;
-    @Column(name = "dribbling_skill")
-    private Integer dribblingSkill;
-    private Integer composure;
-    
-    private Integer defending;
-    private Integer interceptions;
-    @Column(name = "heading_acc")
-    private Integer headingAcc;
-    @Column(name = "def_aware")
-    private Integer defAware;
-    @Column(name = "stand_tackle")
-    private Integer standTackle;
-    @Column(name = "slide_tackle")
-    private Integer slideTackle;
-    
-    private Integer physical;
-    private Integer jumping;
-    private Integer stamina;
-    private Integer strength;
-    private Integer aggression;
-    
-    private Integer diving;
-    private Integer handling;
-    private Integer kicking;
-    private Integer reflexes;
-    private Integer speed;
-    private Integer positioning;
+    /**
+     * All 41 attributes packed one byte each, indexed by {@link Stat#ordinal()}. 0 means the
+     * attribute does not apply to the player (e.g. crossing for goalkeepers).
+     */
+    @Column(nullable = false)
+    private byte[] stats = new byte[Stat.COUNT];
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -105,6 +54,18 @@ public class Player {
         GK, DF, MF, FW
     }
 
+    public enum Stat {
+        PACE, ACCELERATION, SPRINT_SPEED,
+        SHOOTING, ATT_POSITION, FINISHING, SHOT_POWER, LONG_SHOTS, VOLLEYS, PENALTIES,
+        PASSING, VISION, CROSSING, FK_ACC, SHORT_PASS, LONG_PASS, CURVE,
+        DRIBBLING, AGILITY, BALANCE, REACTIONS, BALL_CONTROL, DRIBBLING_SKILL, COMPOSURE,
+        DEFENDING, INTERCEPTIONS, HEADING_ACC, DEF_AWARE, STAND_TACKLE, SLIDE_TACKLE,
+        PHYSICAL, JUMPING, STAMINA, STRENGTH, AGGRESSION,
+        DIVING, HANDLING, KICKING, REFLEXES, SPEED, POSITIONING;
+
+        public static final int COUNT = values().length;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -161,6 +122,10 @@ public class Player {
         this.marketValue = marketValue;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -169,86 +134,111 @@ public class Player {
         this.createdAt = createdAt;
     }
 
-    public Integer getPace() { return pace; }
-    public void setPace(Integer pace) { this.pace = pace; }
-    public Integer getAcceleration() { return acceleration; }
-    public void setAcceleration(Integer acceleration) { this.acceleration = acceleration; }
-    public Integer getSprintSpeed() { return sprintSpeed; }
-    public void setSprintSpeed(Integer sprintSpeed) { this.sprintSpeed = sprintSpeed; }
-    public Integer getShooting() { return shooting; }
-    public void setShooting(Integer shooting) { this.shooting = shooting; }
-    public Integer getAttPosition() { return attPosition; }
-    public void setAttPosition(Integer attPosition) { this.attPosition = attPosition; }
-    public Integer getFinishing() { return finishing; }
-    public void setFinishing(Integer finishing) { this.finishing = finishing; }
-    public Integer getShotPower() { return shotPower; }
-    public void setShotPower(Integer shotPower) { this.shotPower = shotPower; }
-    public Integer getLongShots() { return longShots; }
-    public void setLongShots(Integer longShots) { this.longShots = longShots; }
-    public Integer getVolleys() { return volleys; }
-    public void setVolleys(Integer volleys) { this.volleys = volleys; }
-    public Integer getPenalties() { return penalties; }
-    public void setPenalties(Integer penalties) { this.penalties = penalties; }
-    public Integer getPassing() { return passing; }
-    public void setPassing(Integer passing) { this.passing = passing; }
-    public Integer getVision() { return vision; }
-    public void setVision(Integer vision) { this.vision = vision; }
-    public Integer getCrossing() { return crossing; }
-    public void setCrossing(Integer crossing) { this.crossing = crossing; }
-    public Integer getFkAcc() { return fkAcc; }
-    public void setFkAcc(Integer fkAcc) { this.fkAcc = fkAcc; }
-    public Integer getShortPass() { return shortPass; }
-    public void setShortPass(Integer shortPass) { this.shortPass = shortPass; }
-    public Integer getLongPass() { return longPass; }
-    public void setLongPass(Integer longPass) { this.longPass = longPass; }
-    public Integer getCurve() { return curve; }
-    public void setCurve(Integer curve) { this.curve = curve; }
-    public Integer getDribbling() { return dribbling; }
-    public void setDribbling(Integer dribbling) { this.dribbling = dribbling; }
-    public Integer getAgility() { return agility; }
-    public void setAgility(Integer agility) { this.agility = agility; }
-    public Integer getBalance() { return balance; }
-    public void setBalance(Integer balance) { this.balance = balance; }
-    public Integer getReactions() { return reactions; }
-    public void setReactions(Integer reactions) { this.reactions = reactions; }
-    public Integer getBallControl() { return ballControl; }
-    public void setBallControl(Integer ballControl) { this.ballControl = ballControl; }
-    public Integer getDribblingSkill() { return dribblingSkill; }
-    public void setDribblingSkill(Integer dribblingSkill) { this.dribblingSkill = dribblingSkill; }
-    public Integer getComposure() { return composure; }
-    public void setComposure(Integer composure) { this.composure = composure; }
-    public Integer getDefending() { return defending; }
-    public void setDefending(Integer defending) { this.defending = defending; }
-    public Integer getInterceptions() { return interceptions; }
-    public void setInterceptions(Integer interceptions) { this.interceptions = interceptions; }
-    public Integer getHeadingAcc() { return headingAcc; }
-    public void setHeadingAcc(Integer headingAcc) { this.headingAcc = headingAcc; }
-    public Integer getDefAware() { return defAware; }
-    public void setDefAware(Integer defAware) { this.defAware = defAware; }
-    public Integer getStandTackle() { return standTackle; }
-    public void setStandTackle(Integer standTackle) { this.standTackle = standTackle; }
-    public Integer getSlideTackle() { return slideTackle; }
-    public void setSlideTackle(Integer slideTackle) { this.slideTackle = slideTackle; }
-    public Integer getPhysical() { return physical; }
-    public void setPhysical(Integer physical) { this.physical = physical; }
-    public Integer getJumping() { return jumping; }
-    public void setJumping(Integer jumping) { this.jumping = jumping; }
-    public Integer getStamina() { return stamina; }
-    public void setStamina(Integer stamina) { this.stamina = stamina; }
-    public Integer getStrength() { return strength; }
-    public void setStrength(Integer strength) { this.strength = strength; }
-    public Integer getAggression() { return aggression; }
-    public void setAggression(Integer aggression) { this.aggression = aggression; }
-    public Integer getDiving() { return diving; }
-    public void setDiving(Integer diving) { this.diving = diving; }
-    public Integer getHandling() { return handling; }
-    public void setHandling(Integer handling) { this.handling = handling; }
-    public Integer getKicking() { return kicking; }
-    public void setKicking(Integer kicking) { this.kicking = kicking; }
-    public Integer getReflexes() { return reflexes; }
-    public void setReflexes(Integer reflexes) { this.reflexes = reflexes; }
-    public Integer getSpeed() { return speed; }
-    public void setSpeed(Integer speed) { this.speed = speed; }
-    public Integer getPositioning() { return positioning; }
-    public void setPositioning(Integer positioning) { this.positioning = positioning; }
+    public byte[] getStats() {
+        return stats;
+    }
+
+    public void setStats(byte[] stats) {
+        this.stats = stats;
+    }
+
+    public int getStat(Stat stat) {
+        return stats[stat.ordinal()];
+    }
+
+    public void setStat(Stat stat, int value) {
+        stats[stat.ordinal()] = (byte) value;
+    }
+
+    private Integer statOrNull(Stat stat) {
+        int value = stats[stat.ordinal()];
+        return value == 0 ? null : value;
+    }
+
+    private void setStatOrNull(Stat stat, Integer value) {
+        stats[stat.ordinal()] = value == null ? 0 : value.byteValue();
+    }
+
+    public Integer getPace() { return statOrNull(Stat.PACE); }
+    public void setPace(Integer pace) { setStatOrNull(Stat.PACE, pace); }
+    public Integer getAcceleration() { return statOrNull(Stat.ACCELERATION); }
+    public void setAcceleration(Integer acceleration) { setStatOrNull(Stat.ACCELERATION, acceleration); }
+    public Integer getSprintSpeed() { return statOrNull(Stat.SPRINT_SPEED); }
+    public void setSprintSpeed(Integer sprintSpeed) { setStatOrNull(Stat.SPRINT_SPEED, sprintSpeed); }
+    public Integer getShooting() { return statOrNull(Stat.SHOOTING); }
+    public void setShooting(Integer shooting) { setStatOrNull(Stat.SHOOTING, shooting); }
+    public Integer getAttPosition() { return statOrNull(Stat.ATT_POSITION); }
+    public void setAttPosition(Integer attPosition) { setStatOrNull(Stat.ATT_POSITION, attPosition); }
+    public Integer getFinishing() { return statOrNull(Stat.FINISHING); }
+    public void setFinishing(Integer finishing) { setStatOrNull(Stat.FINISHING, finishing); }
+    public Integer getShotPower() { return statOrNull(Stat.SHOT_POWER); }
+    public void setShotPower(Integer shotPower) { setStatOrNull(Stat.SHOT_POWER, shotPower); }
+    public Integer getLongShots() { return statOrNull(Stat.LONG_SHOTS); }
+    public void setLongShots(Integer longShots) { setStatOrNull(Stat.LONG_SHOTS, longShots); }
+    public Integer getVolleys() { return statOrNull(Stat.VOLLEYS); }
+    public void setVolleys(Integer volleys) { setStatOrNull(Stat.VOLLEYS, volleys); }
+    public Integer getPenalties() { return statOrNull(Stat.PENALTIES); }
+    public void setPenalties(Integer penalties) { setStatOrNull(Stat.PENALTIES, penalties); }
+    public Integer getPassing() { return statOrNull(Stat.PASSING); }
+    public void setPassing(Integer passing) { setStatOrNull(Stat.PASSING, passing); }
+    public Integer getVision() { return statOrNull(Stat.VISION); }
+    public void setVision(Integer vision) { setStatOrNull(Stat.VISION, vision); }
+    public Integer getCrossing() { return statOrNull(Stat.CROSSING); }
+    public void setCrossing(Integer crossing) { setStatOrNull(Stat.CROSSING, crossing); }
+    public Integer getFkAcc() { return statOrNull(Stat.FK_ACC); }
+    public void setFkAcc(Integer fkAcc) { setStatOrNull(Stat.FK_ACC, fkAcc); }
+    public Integer getShortPass() { return statOrNull(Stat.SHORT_PASS); }
+    public void setShortPass(Integer shortPass) { setStatOrNull(Stat.SHORT_PASS, shortPass); }
+    public Integer getLongPass() { return statOrNull(Stat.LONG_PASS); }
+    public void setLongPass(Integer longPass) { setStatOrNull(Stat.LONG_PASS, longPass); }
+    public Integer getCurve() { return statOrNull(Stat.CURVE); }
+    public void setCurve(Integer curve) { setStatOrNull(Stat.CURVE, curve); }
+    public Integer getDribbling() { return statOrNull(Stat.DRIBBLING); }
+    public void setDribbling(Integer dribbling) { setStatOrNull(Stat.DRIBBLING, dribbling); }
+    public Integer getAgility() { return statOrNull(Stat.AGILITY); }
+    public void setAgility(Integer agility) { setStatOrNull(Stat.AGILITY, agility); }
+    public Integer getBalance() { return statOrNull(Stat.BALANCE); }
+    public void setBalance(Integer balance) { setStatOrNull(Stat.BALANCE, balance); }
+    public Integer getReactions() { return statOrNull(Stat.REACTIONS); }
+    public void setReactions(Integer reactions) { setStatOrNull(Stat.REACTIONS, reactions); }
+    public Integer getBallControl() { return statOrNull(Stat.BALL_CONTROL); }
+    public void setBallControl(Integer ballControl) { setStatOrNull(Stat.BALL_CONTROL, ballControl); }
+    public Integer getDribblingSkill() { return statOrNull(Stat.DRIBBLING_SKILL); }
+    public void setDribblingSkill(Integer dribblingSkill) { setStatOrNull(Stat.DRIBBLING_SKILL, dribblingSkill); }
+    public Integer getComposure() { return statOrNull(Stat.COMPOSURE); }
+    public void setComposure(Integer composure) { setStatOrNull(Stat.COMPOSURE, composure); }
+    public Integer getDefending() { return statOrNull(Stat.DEFENDING); }
+    public void setDefending(Integer defending) { setStatOrNull(Stat.DEFENDING, defending); }
+    public Integer getInterceptions() { return statOrNull(Stat.INTERCEPTIONS); }
+    public void setInterceptions(Integer interceptions) { setStatOrNull(Stat.INTERCEPTIONS, interceptions); }
+    public Integer getHeadingAcc() { return statOrNull(Stat.HEADING_ACC); }
+    public void setHeadingAcc(Integer headingAcc) { setStatOrNull(Stat.HEADING_ACC, headingAcc); }
+    public Integer getDefAware() { return statOrNull(Stat.DEF_AWARE); }
+    public void setDefAware(Integer defAware) { setStatOrNull(Stat.DEF_AWARE, defAware); }
+    public Integer getStandTackle() { return statOrNull(Stat.STAND_TACKLE); }
+    public void setStandTackle(Integer standTackle) { setStatOrNull(Stat.STAND_TACKLE, standTackle); }
+    public Integer getSlideTackle() { return statOrNull(Stat.SLIDE_TACKLE); }
+    public void setSlideTackle(Integer slideTackle) { setStatOrNull(Stat.SLIDE_TACKLE, slideTackle); }
+    public Integer getPhysical() { return statOrNull(Stat.PHYSICAL); }
+    public void setPhysical(Integer physical) { setStatOrNull(Stat.PHYSICAL, physical); }
+    public Integer getJumping() { return statOrNull(Stat.JUMPING); }
+    public void setJumping(Integer jumping) { setStatOrNull(Stat.JUMPING, jumping); }
+    public Integer getStamina() { return statOrNull(Stat.STAMINA); }
+    public void setStamina(Integer stamina) { setStatOrNull(Stat.STAMINA, stamina); }
+    public Integer getStrength() { return statOrNull(Stat.STRENGTH); }
+    public void setStrength(Integer strength) { setStatOrNull(Stat.STRENGTH, strength); }
+    public Integer getAggression() { return statOrNull(Stat.AGGRESSION); }
+    public void setAggression(Integer aggression) { setStatOrNull(Stat.AGGRESSION, aggression); }
+    public Integer getDiving() { return statOrNull(Stat.DIVING); }
+    public void setDiving(Integer diving) { setStatOrNull(Stat.DIVING, diving); }
+    public Integer getHandling() { return statOrNull(Stat.HANDLING); }
+    public void setHandling(Integer handling) { setStatOrNull(Stat.HANDLING, handling); }
+    public Integer getKicking() { return statOrNull(Stat.KICKING); }
+    public void setKicking(Integer kicking) { setStatOrNull(Stat.KICKING, kicking); }
+    public Integer getReflexes() { return statOrNull(Stat.REFLEXES); }
+    public void setReflexes(Integer reflexes) { setStatOrNull(Stat.REFLEXES, reflexes); }
+    public Integer getSpeed() { return statOrNull(Stat.SPEED); }
+    public void setSpeed(Integer speed) { setStatOrNull(Stat.SPEED, speed); }
+    public Integer getPositioning() { return statOrNull(Stat.POSITIONING); }
+    public void setPositioning(Integer positioning) { setStatOrNull(Stat.POSITIONING, positioning); }
 }
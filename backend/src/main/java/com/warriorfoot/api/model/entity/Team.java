@@ -28,9 +28,18 @@ public class Team {
     @Column(name = "division_level", nullable = false)
     private Integer divisionLevel;
 
+    @Column(name = "roster_seed")
+    private Long rosterSeed;
+
+    @Column(name = "roster_materialized", nullable = false)
+    private boolean rosterMaterialized = true;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -84,6 +93,26 @@ public class Team {
         this.divisionLevel = divisionLevel;
     }
 
+    public Long getRosterSeed() {
+        return rosterSeed;
+    }
+
+    public void setRosterSeed(Long rosterSeed) {
+        this.rosterSeed = rosterSeed;
+    }
+
+    public boolean isRosterMaterialized() {
+        return rosterMaterialized;
+    }
+
+    public void setRosterMaterialized(boolean rosterMaterialized) {
+        this.rosterMaterialized = rosterMaterialized;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,50 @@
+package com.warriorfoot.api.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Chunked deletes for tombstoned leagues. Every statement runs in its own short transaction
+ * so the purge never holds locks on a whole league at once.
+ */
+@Repository
+public class LeaguePurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LeaguePurgeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<UUID> findTombstonedLeagueIds(int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM leagues WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT ?",
+            UUID.class, limit);
+    }
+
+    public long countTombstonedLeagues() {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM leagues WHERE deleted_at IS NOT NULL", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Each chunk is a range scan on the league prefix of the players (league_id, ...) indexes.
+     */
+    public int deletePlayersChunk(UUID leagueId, int limit) {
+        return jdbcTemplate.update(
+            "DELETE FROM players WHERE id IN (SELECT id FROM players WHERE league_id = ? LIMIT ?)",
+            leagueId, limit);
+    }
+
+    /**
+     * Deletes the league row once its players are gone; teams, memberships and invites follow
+     * through ON DELETE CASCADE and are bounded by the league size.
+     */
+    public int deleteLeague(UUID leagueId) {
+        return jdbcTemplate.update("DELETE FROM leagues WHERE id = ? AND deleted_at IS NOT NULL", leagueId);
+    }
+}
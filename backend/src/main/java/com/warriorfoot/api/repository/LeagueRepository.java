@@ -2,10 +2,24 @@ package com.warriorfoot.api.repository;
 
 import com.warriorfoot.api.model.entity.League;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface LeagueRepository extends JpaRepository<League, UUID> {
+
+    @Query(value = "SELECT * FROM leagues WHERE pooled = TRUE ORDER BY created_at LIMIT 1 FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<League> findNextPooledForUpdate();
+
+    long countByPooledTrue();
+
+    boolean existsByIdAndDeletedAtIsNull(UUID id);
+
+    @Query("SELECT l.version FROM League l WHERE l.id = :leagueId AND l.deletedAt IS NULL")
+    Optional<Long> findVersionById(@Param("leagueId") UUID leagueId);
 }
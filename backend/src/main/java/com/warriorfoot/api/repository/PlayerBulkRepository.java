@@ -0,0 +1,56 @@
+package com.warriorfoot.api.repository;
+
+import com.warriorfoot.api.model.entity.Player;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * JDBC batch writer for freshly generated players. Bypasses the persistence context so a
+ * whole league can be written in a handful of round trips instead of one INSERT per row.
+ */
+@Repository
+public class PlayerBulkRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO players (id, team_id, league_id, name, age, position, overall, market_value, stats) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlayerBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts all players in batches of {@link #BATCH_SIZE}. Ids come from the generator,
+     * never from here. Teams must already be flushed. Returns the number of batches sent.
+     */
+    public int insertAll(List<Player> players) {
+        for (Player player : players) {
+            if (player.getId() == null) {
+                throw new IllegalArgumentException("Player has no id");
+            }
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, players, BATCH_SIZE, this::bind);
+        return results.length;
+    }
+
+    private void bind(PreparedStatement ps, Player p) throws SQLException {
+        ps.setObject(1, p.getId());
+        ps.setObject(2, p.getTeam() != null ? p.getTeam().getId() : null);
+        ps.setObject(3, p.getTeam() != null ? p.getTeam().getLeague().getId() : null);
+        ps.setString(4, p.getName());
+        ps.setInt(5, p.getAge());
+        ps.setString(6, p.getPosition().name());
+        ps.setInt(7, p.getOverall());
+        ps.setLong(8, p.getMarketValue());
+        ps.setBytes(9, p.getStats());
+    }
+}
@@ -0,0 +1,54 @@
+package com.warriorfoot.api.repository;
+
+import com.warriorfoot.api.model.dto.PlayerSearchResultDTO;
+import com.warriorfoot.api.search.PlayerCursor;
+import com.warriorfoot.api.search.PlayerSearchCriteria.SortKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pages over a league's stored players. Each page is a row-value comparison
+ * against the last row of the previous one, answered by a backward range scan on
+ * idx_players_league_overall or idx_players_league_market_value, so no rows are skipped.
+ */
+@Repository
+public class PlayerKeysetRepository {
+
+    private static final String SELECT =
+        "SELECT id, team_id, name, age, position, overall, market_value FROM players WHERE league_id = ? ";
+
+    private static final RowMapper<PlayerSearchResultDTO> ROW_MAPPER = (rs, rowNum) -> new PlayerSearchResultDTO(
+        rs.getObject("id", UUID.class),
+        rs.getObject("team_id", UUID.class),
+        rs.getString("name"),
+        rs.getInt("age"),
+        rs.getString("position"),
+        rs.getInt("overall"),
+        rs.getLong("market_value")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlayerKeysetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PlayerSearchResultDTO> findPage(UUID leagueId, SortKey sort, PlayerCursor after, int limit) {
+        String column = switch (sort) {
+            case OVERALL -> "overall";
+            case MARKET_VALUE -> "market_value";
+            case AGE -> throw new IllegalArgumentException("Unsupported sort for keyset listing: " + sort);
+        };
+        String order = "ORDER BY " + column + " DESC, id DESC LIMIT ?";
+
+        if (after == null) {
+            return jdbcTemplate.query(SELECT + order, ROW_MAPPER, leagueId, limit);
+        }
+        return jdbcTemplate.query(SELECT + "AND (" + column + ", id) < (?, ?) " + order, ROW_MAPPER,
+            leagueId, after.value(), after.id(), limit);
+    }
+}
@@ -1,13 +1,70 @@
 package com.warriorfoot.api.repository;
 
 import com.warriorfoot.api.model.entity.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, UUID> {
     List<Player> findByTeamId(UUID teamId);
+
+    /**
+     * Roster listing columns only. Served by the covering index idx_players_team_listing, and
+     * the rows never enter the persistence context.
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.age AS age, p.position AS position, " +
+           "p.overall AS overall, p.marketValue AS marketValue " +
+           "FROM Player p WHERE p.team.id = :teamId")
+    List<PlayerListingView> findListingByTeamId(@Param("teamId") UUID teamId);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.age AS age, p.position AS position, " +
+           "p.overall AS overall, p.marketValue AS marketValue, p.stats AS stats " +
+           "FROM Player p WHERE p.id = :playerId")
+    Optional<PlayerDetailsView> findDetailsById(@Param("playerId") UUID playerId);
+
+    @Query("SELECT p.id AS id, p.name AS name, p.age AS age, p.position AS position, " +
+           "p.overall AS overall, p.marketValue AS marketValue, p.stats AS stats " +
+           "FROM Player p WHERE p.id IN :playerIds")
+    List<PlayerDetailsView> findDetailsByIdIn(@Param("playerIds") Collection<UUID> playerIds);
+
+    /**
+     * Streams every stored player of a league over a server-side cursor. Must be consumed inside
+     * a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id AS id, p.team.id AS teamId, p.name AS name, p.age AS age, p.position AS position, " +
+           "p.overall AS overall, p.marketValue AS marketValue, p.stats AS stats " +
+           "FROM Player p WHERE p.team.league.id = :leagueId")
+    Stream<PlayerSnapshotView> streamSnapshotByLeagueId(@Param("leagueId") UUID leagueId);
+
+    @Query("SELECT p.version FROM Player p WHERE p.id = :playerId")
+    Optional<Long> findVersionById(@Param("playerId") UUID playerId);
+
+    interface PlayerListingView {
+        UUID getId();
+        String getName();
+        Integer getAge();
+        Player.Position getPosition();
+        Integer getOverall();
+        Long getMarketValue();
+    }
+
+    interface PlayerDetailsView extends PlayerListingView {
+        byte[] getStats();
+    }
+
+    interface PlayerSnapshotView extends PlayerDetailsView {
+        UUID getTeamId();
+    }
 }
@@ -1,12 +1,15 @@
 package com.warriorfoot.api.repository;
 
+import com.warriorfoot.api.model.dto.TeamDTO;
 import com.warriorfoot.api.model.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -18,4 +21,22 @@ public interface TeamRepository extends JpaRepository<Team, UUID> {
     @Query("SELECT t FROM Team t WHERE t.league.id = :leagueId AND t.id NOT IN " +
            "(SELECT ul.team.id FROM UserLeague ul WHERE ul.leagueId = :leagueId)")
     List<Team> findAvailableTeamsByLeague(@Param("leagueId") UUID leagueId);
+
+    Optional<Team> findByRosterSeed(Long rosterSeed);
+
+    List<Team> findByRosterSeedIn(Collection<Long> rosterSeeds);
+
+    @Query("SELECT new com.warriorfoot.api.model.dto.TeamDTO(" +
+           "t.id, t.name, t.colorPrimary, t.colorSecondary, t.divisionLevel, COALESCE(u.fullName, 'No Manager')) " +
+           "FROM Team t LEFT JOIN UserLeague ul ON ul.team = t LEFT JOIN ul.user u " +
+           "WHERE t.id IN :teamIds")
+    List<TeamDTO> findSummariesByIdIn(@Param("teamIds") Collection<UUID> teamIds);
+
+    @Query("SELECT t.version FROM Team t WHERE t.id = :teamId")
+    Optional<Long> findVersionById(@Param("teamId") UUID teamId);
+
+    @Query("SELECT t.rosterMaterialized FROM Team t WHERE t.rosterSeed = :rosterSeed")
+    Optional<Boolean> findRosterMaterializedByRosterSeed(@Param("rosterSeed") Long rosterSeed);
+
+    boolean existsByLeagueIdAndRosterMaterializedFalse(UUID leagueId);
 }
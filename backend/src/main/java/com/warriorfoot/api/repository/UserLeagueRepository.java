@@ -1,7 +1,11 @@
 package com.warriorfoot.api.repository;
 
+import com.warriorfoot.api.model.dto.UserLeagueDTO;
 import com.warriorfoot.api.model.entity.UserLeague;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,8 +15,25 @@ import java.util.UUID;
 @Repository
 public interface UserLeagueRepository extends JpaRepository<UserLeague, UserLeague.UserLeagueId> {
     List<UserLeague> findByUserId(UUID userId);
+
+    @Query("SELECT ul FROM UserLeague ul WHERE ul.userId = :userId AND ul.league.deletedAt IS NULL")
+    List<UserLeague> findActiveByUserId(@Param("userId") UUID userId);
     Optional<UserLeague> findByUserIdAndLeagueId(UUID userId, UUID leagueId);
-    Optional<UserLeague> findFirstByLeagueIdOrderByJoinedAtAsc(UUID leagueId);
+
+    @Query("SELECT new com.warriorfoot.api.model.dto.UserLeagueDTO(" +
+           "l.id, l.name, t.id, t.name, t.divisionLevel, ul.joinedAt, " +
+           "CASE WHEN l.creatorId = :userId THEN true ELSE false END) " +
+           "FROM UserLeague ul JOIN ul.league l JOIN ul.team t " +
+           "WHERE ul.userId = :userId AND l.deletedAt IS NULL")
+    List<UserLeagueDTO> findActiveSummariesByUserId(@Param("userId") UUID userId);
+
     List<UserLeague> findByLeagueId(UUID leagueId);
+
+    @EntityGraph(attributePaths = {"user", "team"})
+    List<UserLeague> findWithUserAndTeamByLeagueId(UUID leagueId);
+
     Optional<UserLeague> findByTeamId(UUID teamId);
+
+    @Query("SELECT u.fullName FROM UserLeague ul JOIN ul.user u WHERE ul.team.id = :teamId")
+    Optional<String> findManagerNameByTeamId(@Param("teamId") UUID teamId);
 }
@@ -0,0 +1,49 @@
+package com.warriorfoot.api.search;
+
+import com.warriorfoot.api.search.PlayerSearchCriteria.SortKey;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a league-wide player listing: the sort value and id of the last row
+ * returned. Clients only see it as an opaque URL-safe token.
+ */
+public record PlayerCursor(SortKey sort, long value, UUID id) {
+
+    private static final int ENCODED_LENGTH = 1 + Long.BYTES + 2 * Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+            .put((byte) sort.ordinal())
+            .putLong(value)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PlayerCursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_LENGTH) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            SortKey sort = SortKey.values()[buffer.get()];
+            return new PlayerCursor(sort, buffer.getLong(), new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Orders ids the way PostgreSQL does (unsigned, byte by byte), so cursors minted from the
+     * index and from the database seek to the same place.
+     */
+    public static int compareIds(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,25 @@
+package com.warriorfoot.api.search;
+
+import com.warriorfoot.api.model.entity.Player;
+
+/**
+ * Scouting filter. Null bounds are open; {@code limit} is the K of the top-K.
+ */
+public record PlayerSearchCriteria(
+    Player.Position position,
+    Integer minOverall,
+    Integer maxOverall,
+    Integer minAge,
+    Integer maxAge,
+    Long minMarketValue,
+    Long maxMarketValue,
+    SortKey sort,
+    int limit
+) {
+
+    public enum SortKey {
+        OVERALL,
+        MARKET_VALUE,
+        AGE
+    }
+}
@@ -0,0 +1,285 @@
+package com.warriorfoot.api.search;
+
+import com.warriorfoot.api.model.dto.PlayerSearchResultDTO;
+import com.warriorfoot.api.model.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable columnar index over one league's players. Each attribute is a primitive column
+ * indexed by row; positions and 10-point overall buckets have a bitset each, and each sort key
+ * has a precomputed row order. A query narrows candidates with the bitsets, then walks the
+ * sorted order until it has K matches, so no per-query sort is needed.
+ * <p>
+ * An index is never modified once built, so readers need no locking; a change to any of the
+ * league's players replaces the whole index.
+ */
+public final class PlayerSearchIndex {
+
+    private static final int OVERALL_BUCKETS = 10;
+
+    private final int size;
+    private final UUID[] ids;
+    private final UUID[] teamIds;
+    private final String[] names;
+    private final byte[] ages;
+    private final byte[] positions;
+    private final byte[] overalls;
+    private final long[] marketValues;
+
+    private final BitSet[] byPosition;
+    private final BitSet[] byOverallBucket;
+    private final int[] byOverallDesc;
+    private final int[] byMarketValueDesc;
+    private final int[] byAgeAsc;
+    private final Map<UUID, Integer> rowById;
+
+    private PlayerSearchIndex(int size, UUID[] ids, UUID[] teamIds, String[] names, byte[] ages, byte[] positions,
+                              byte[] overalls, long[] marketValues, BitSet[] byPosition, BitSet[] byOverallBucket,
+                              Map<UUID, Integer> rowById) {
+        this.size = size;
+        this.ids = ids;
+        this.teamIds = teamIds;
+        this.names = names;
+        this.ages = ages;
+        this.positions = positions;
+        this.overalls = overalls;
+        this.marketValues = marketValues;
+        this.byPosition = byPosition;
+        this.byOverallBucket = byOverallBucket;
+        this.rowById = rowById;
+
+        this.byOverallDesc = sortedRows(PlayerSearchCriteria.SortKey.OVERALL);
+        this.byMarketValueDesc = sortedRows(PlayerSearchCriteria.SortKey.MARKET_VALUE);
+        this.byAgeAsc = sortedRows(PlayerSearchCriteria.SortKey.AGE);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(UUID playerId) {
+        return rowById.containsKey(playerId);
+    }
+
+    public List<PlayerSearchResultDTO> search(PlayerSearchCriteria criteria) {
+        BitSet candidates = null;
+        if (criteria.position() != null) {
+            candidates = (BitSet) byPosition[criteria.position().ordinal()].clone();
+        }
+        if (criteria.minOverall() != null || criteria.maxOverall() != null) {
+            int from = criteria.minOverall() != null ? bucketOf(criteria.minOverall()) : 0;
+            int to = criteria.maxOverall() != null ? bucketOf(criteria.maxOverall()) : OVERALL_BUCKETS - 1;
+            BitSet buckets = new BitSet(size);
+            for (int bucket = from; bucket <= to; bucket++) {
+                buckets.or(byOverallBucket[bucket]);
+            }
+            if (candidates == null) {
+                candidates = buckets;
+            } else {
+                candidates.and(buckets);
+            }
+        }
+
+        int[] order = orderFor(criteria.sort());
+
+        List<PlayerSearchResultDTO> results = new ArrayList<>(Math.min(criteria.limit(), size));
+        for (int i = 0; i < order.length && results.size() < criteria.limit(); i++) {
+            int row = order[i];
+            if ((candidates == null || candidates.get(row)) && matches(row, criteria)) {
+                results.add(toResult(row));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Keyset page over all players in {@code sort} order: up to {@code limit} rows strictly
+     * after {@code after}, or from the start when it is null. Ties are broken by id descending,
+     * matching the database listing. The start row is found by binary search, so deep pages
+     * cost the same as the first.
+     */
+    public List<PlayerSearchResultDTO> page(PlayerSearchCriteria.SortKey sort, PlayerCursor after, int limit) {
+        int[] order = orderFor(sort);
+
+        int from = 0;
+        if (after != null) {
+            int low = 0;
+            int high = order.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareToCursor(sort, order[mid], after) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+
+        int to = Math.min(order.length, from + limit);
+        List<PlayerSearchResultDTO> results = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            results.add(toResult(order[i]));
+        }
+        return results;
+    }
+
+    private boolean matches(int row, PlayerSearchCriteria c) {
+        int overall = overalls[row];
+        int age = ages[row];
+        long marketValue = marketValues[row];
+        return (c.minOverall() == null || overall >= c.minOverall())
+            && (c.maxOverall() == null || overall <= c.maxOverall())
+            && (c.minAge() == null || age >= c.minAge())
+            && (c.maxAge() == null || age <= c.maxAge())
+            && (c.minMarketValue() == null || marketValue >= c.minMarketValue())
+            && (c.maxMarketValue() == null || marketValue <= c.maxMarketValue());
+    }
+
+    private int[] orderFor(PlayerSearchCriteria.SortKey sort) {
+        return switch (sort) {
+            case OVERALL -> byOverallDesc;
+            case MARKET_VALUE -> byMarketValueDesc;
+            case AGE -> byAgeAsc;
+        };
+    }
+
+    private int compareToCursor(PlayerSearchCriteria.SortKey sort, int row, PlayerCursor cursor) {
+        int byValue = switch (sort) {
+            case OVERALL -> Long.compare(cursor.value(), overalls[row]);
+            case MARKET_VALUE -> Long.compare(cursor.value(), marketValues[row]);
+            case AGE -> Long.compare(ages[row], cursor.value());
+        };
+        return byValue != 0 ? byValue : PlayerCursor.compareIds(cursor.id(), ids[row]);
+    }
+
+    private PlayerSearchResultDTO toResult(int row) {
+        return new PlayerSearchResultDTO(
+            ids[row],
+            teamIds[row],
+            names[row],
+            (int) ages[row],
+            Player.Position.values()[positions[row]].name(),
+            (int) overalls[row],
+            marketValues[row]
+        );
+    }
+
+    // Negative if row a sorts before row b; ties go to the larger id, like the database listing
+    private int compareRows(PlayerSearchCriteria.SortKey sort, int a, int b) {
+        int byValue = switch (sort) {
+            case OVERALL -> Integer.compare(overalls[b], overalls[a]);
+            case MARKET_VALUE -> Long.compare(marketValues[b], marketValues[a]);
+            case AGE -> Integer.compare(ages[a], ages[b]);
+        };
+        return byValue != 0 ? byValue : PlayerCursor.compareIds(ids[b], ids[a]);
+    }
+
+    private int[] sortedRows(PlayerSearchCriteria.SortKey sort) {
+        int[] rows = new int[size];
+        for (int row = 0; row < size; row++) {
+            rows[row] = row;
+        }
+        mergeSort(rows, new int[size], 0, size, sort);
+        return rows;
+    }
+
+    // Merge sort over primitive row numbers, avoiding a boxed comparator sort
+    private void mergeSort(int[] rows, int[] scratch, int from, int to, PlayerSearchCriteria.SortKey sort) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(rows, scratch, from, mid, sort);
+        mergeSort(rows, scratch, mid, to, sort);
+        if (compareRows(sort, rows[mid - 1], rows[mid]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(rows, from, scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && compareRows(sort, scratch[left], scratch[right]) <= 0)) {
+                rows[i] = scratch[left++];
+            } else {
+                rows[i] = scratch[right++];
+            }
+        }
+    }
+
+    private static int bucketOf(int overall) {
+        return Math.max(0, Math.min(OVERALL_BUCKETS - 1, overall / 10));
+    }
+
+    public static final class Builder {
+
+        private int size;
+        private UUID[] ids = new UUID[64];
+        private UUID[] teamIds = new UUID[64];
+        private String[] names = new String[64];
+        private byte[] ages = new byte[64];
+        private byte[] positions = new byte[64];
+        private byte[] overalls = new byte[64];
+        private long[] marketValues = new long[64];
+
+        private Builder() {
+        }
+
+        public Builder add(UUID id, UUID teamId, String name, int age, Player.Position position,
+                           int overall, long marketValue) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                teamIds = Arrays.copyOf(teamIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                ages = Arrays.copyOf(ages, capacity);
+                positions = Arrays.copyOf(positions, capacity);
+                overalls = Arrays.copyOf(overalls, capacity);
+                marketValues = Arrays.copyOf(marketValues, capacity);
+            }
+            ids[size] = id;
+            teamIds[size] = teamId;
+            names[size] = name;
+            ages[size] = (byte) age;
+            positions[size] = (byte) position.ordinal();
+            overalls[size] = (byte) overall;
+            marketValues[size] = marketValue;
+            size++;
+            return this;
+        }
+
+        public PlayerSearchIndex build() {
+            BitSet[] byPosition = new BitSet[Player.Position.values().length];
+            for (int i = 0; i < byPosition.length; i++) {
+                byPosition[i] = new BitSet(size);
+            }
+            BitSet[] byOverallBucket = new BitSet[OVERALL_BUCKETS];
+            for (int i = 0; i < byOverallBucket.length; i++) {
+                byOverallBucket[i] = new BitSet(size);
+            }
+            Map<UUID, Integer> rowById = new HashMap<>(size * 2);
+            for (int row = 0; row < size; row++) {
+                byPosition[positions[row]].set(row);
+                byOverallBucket[bucketOf(overalls[row])].set(row);
+                rowById.put(ids[row], row);
+            }
+
+            return new PlayerSearchIndex(size, Arrays.copyOf(ids, size), Arrays.copyOf(teamIds, size),
+                Arrays.copyOf(names, size), Arrays.copyOf(ages, size), Arrays.copyOf(positions, size),
+                Arrays.copyOf(overalls, size), Arrays.copyOf(marketValues, size),
+                byPosition, byOverallBucket, rowById);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.warriorfoot.api.security;
+
+import com.warriorfoot.api.service.SessionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the bearer session token once per request into a {@link SessionPrincipal}. The
+ * token itself is kept as the authentication's credentials for logout. Requests without a
+ * valid session continue anonymously; SecurityConfig decides which endpoints need one.
+ */
+public class SessionAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SessionService sessionService;
+    private final Timer authenticated;
+    private final Timer rejected;
+
+    public SessionAuthenticationFilter(SessionService sessionService, MeterRegistry meterRegistry) {
+        this.sessionService = sessionService;
+        this.authenticated = meterRegistry.timer("warriorfoot.auth.resolve", "result", "authenticated");
+        this.rejected = meterRegistry.timer("warriorfoot.auth.resolve", "result", "rejected");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = bearerToken(request);
+        if (token != null) {
+            long start = System.nanoTime();
+            Optional<SessionPrincipal> principal = sessionService.resolve(token);
+            (principal.isPresent() ? authenticated : rejected).record(System.nanoTime() - start,
+                TimeUnit.NANOSECONDS);
+
+            principal.ifPresent(p -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(new PreAuthenticatedAuthenticationToken(p, token, List.of()));
+                SecurityContextHolder.setContext(context);
+            });
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Returns the token from a {@code Bearer} Authorization header, or null if there is none.
+     */
+    public static String bearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authHeader.substring(BEARER_PREFIX.length());
+    }
+}
@@ -0,0 +1,12 @@
+package com.warriorfoot.api.security;
+
+import java.util.UUID;
+
+/**
+ * The authenticated session of the current request, resolved once by
+ * {@link SessionAuthenticationFilter}. Inject with {@code @AuthenticationPrincipal}.
+ */
+public record SessionPrincipal(
+    UUID userId,
+    UUID activeLeagueId
+) {}
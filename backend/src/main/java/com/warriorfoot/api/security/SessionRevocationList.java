@@ -0,0 +1,153 @@
+package com.warriorfoot.api.security;
+
+import com.warriorfoot.api.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Revoked signed-session token ids. The source of truth is a Redis sorted set scored by token
+ * expiry, so entries can be pruned once the token would have expired anyway. Each node mirrors
+ * it in a Bloom filter: a negative answer (almost every request) is final, and only a possible
+ * hit is confirmed against Redis. Revocations reach other nodes through {@link #CHANNEL}, and
+ * the filter is rebuilt periodically to drop expired entries.
+ *
+ * <p>Pub/sub delivery is best effort. A node that misses a message (publish failure, dropped
+ * subscription) keeps accepting that token until its next successful {@link #refresh()}, so
+ * {@code warriorfoot.session.revocation.refresh-interval-ms} (5 minutes by default) bounds how
+ * long a revoked token can stay usable there. The revocation itself is never lost:
+ * {@link #revoke} fails unless Redis has stored it.
+ */
+@Component
+public class SessionRevocationList implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionRevocationList.class);
+
+    public static final String CHANNEL = "warriorfoot:session-revocation";
+
+    private static final String KEY = "session:revoked";
+
+    private static final int REVOKE_ATTEMPTS = 2;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    // Null until the first load; lookups go straight to Redis until then
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    private final Counter bloomNegatives;
+    private final Counter redisChecks;
+
+    public SessionRevocationList(RedisTemplate<String, Object> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${warriorfoot.session.revocation.expected-entries:100000}") long expectedEntries,
+                                 @Value("${warriorfoot.session.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomNegatives = meterRegistry.counter("warriorfoot.session.revocation.check", "source", "bloom");
+        this.redisChecks = meterRegistry.counter("warriorfoot.session.revocation.check", "source", "redis");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * Records the revocation in Redis, retrying once. Throws IllegalStateException if it could
+     * not be stored, so the caller never reports a token as revoked while it is still accepted.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        store(tokenId, expiresAt);
+        remember(tokenId);
+
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        byte[] body = tokenId.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish session revocation", e);
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            bloomNegatives.increment();
+            return false;
+        }
+
+        redisChecks.increment();
+        try {
+            return redisTemplate.opsForZSet().score(KEY, tokenId) != null;
+        } catch (RuntimeException e) {
+            // Possible hit that cannot be confirmed: fail closed
+            log.warn("Failed to confirm session revocation", e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedDelayString = "${warriorfoot.session.revocation.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            double now = Instant.now().getEpochSecond();
+            redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now);
+
+            BloomFilter next = new BloomFilter(expectedEntries, falsePositiveRate);
+            rebuilding = next;
+            Set<Object> revoked = redisTemplate.opsForZSet().rangeByScore(KEY, now, Double.POSITIVE_INFINITY);
+            if (revoked != null) {
+                revoked.forEach(tokenId -> next.put((String) tokenId));
+            }
+            filter = next;
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh session revocation filter", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void store(String tokenId, Instant expiresAt) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < REVOKE_ATTEMPTS; attempt++) {
+            try {
+                redisTemplate.opsForZSet().add(KEY, tokenId, expiresAt.getEpochSecond());
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        throw new IllegalStateException("Session revocation is unavailable", failure);
+    }
+
+    private void remember(String tokenId) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.warriorfoot.api.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stateless session tokens: {@code v1.<claims>.<HMAC-SHA256>}, both parts base64url. The claims
+ * are the user id, active league id, expiry and a random token id used for revocation, packed
+ * into 56 bytes. Verification is purely in-process.
+ */
+public class SignedSessionTokens {
+
+    private static final String PREFIX = "v1.";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int CLAIMS_LENGTH = 16 + 16 + Long.BYTES + 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final SecureRandom random = new SecureRandom();
+
+    public record Claims(UUID userId, UUID activeLeagueId, Instant expiresAt, String tokenId) {}
+
+    public SignedSessionTokens(byte[] secret) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("Session signing key must be at least 256 bits");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public static boolean isSigned(String token) {
+        return token.startsWith(PREFIX);
+    }
+
+    public String issue(UUID userId, UUID activeLeagueId, Instant expiresAt) {
+        byte[] tokenId = new byte[16];
+        random.nextBytes(tokenId);
+
+        UUID leagueId = activeLeagueId != null ? activeLeagueId : new UUID(0, 0);
+        byte[] claims = ByteBuffer.allocate(CLAIMS_LENGTH)
+            .putLong(userId.getMostSignificantBits())
+            .putLong(userId.getLeastSignificantBits())
+            .putLong(leagueId.getMostSignificantBits())
+            .putLong(leagueId.getLeastSignificantBits())
+            .putLong(expiresAt.getEpochSecond())
+            .put(tokenId)
+            .array();
+
+        return PREFIX + ENCODER.encodeToString(claims) + "." + ENCODER.encodeToString(sign(claims));
+    }
+
+    /**
+     * Returns the claims if the signature is valid and the token has not expired. Revocation
+     * is checked separately.
+     */
+    public Optional<Claims> verify(String token) {
+        if (!isSigned(token)) {
+            return Optional.empty();
+        }
+        int separator = token.indexOf('.', PREFIX.length());
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        byte[] claims;
+        byte[] signature;
+        try {
+            claims = DECODER.decode(token.substring(PREFIX.length(), separator));
+            signature = DECODER.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (claims.length != CLAIMS_LENGTH || !MessageDigest.isEqual(sign(claims), signature)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(claims);
+        UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID leagueId = new UUID(buffer.getLong(), buffer.getLong());
+        Instant expiresAt = Instant.ofEpochSecond(buffer.getLong());
+        byte[] tokenId = new byte[16];
+        buffer.get(tokenId);
+
+        if (!expiresAt.isAfter(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(new Claims(userId,
+            leagueId.getMostSignificantBits() == 0 && leagueId.getLeastSignificantBits() == 0 ? null : leagueId,
+            expiresAt, ENCODER.encodeToString(tokenId)));
+    }
+
+    private byte[] sign(byte[] claims) {
+        return macs.get().doFinal(claims);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
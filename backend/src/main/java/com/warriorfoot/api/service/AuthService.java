@@ -88,6 +88,20 @@ public class AuthService {
         );
     }
 
+    /**
+     * Makes {@code leagueId} the session's active league and returns the token to use from now
+     * on, which differs from the current one for signed sessions.
+     */
+    public String switchActiveLeague(String sessionToken, UUID userId, UUID leagueId) {
+        boolean member = leagueService.getUserLeagues(userId).stream()
+            .anyMatch(ul -> ul.getLeagueId().equals(leagueId));
+        if (!member) {
+            throw new IllegalArgumentException("You are not a member of this league");
+        }
+
+        return sessionService.updateActiveLeague(sessionToken, leagueId);
+    }
+
     public void logout(String sessionToken) {
         sessionService.deleteSession(sessionToken);
     }
@@ -0,0 +1,80 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.repository.LeagueRepository;
+import com.warriorfoot.api.repository.PlayerBulkRepository;
+import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.util.LeagueGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class LeagueGenerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeagueGenerationService.class);
+
+    public enum StorageMode {
+        EAGER,
+        LAZY
+    }
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerBulkRepository playerBulkRepository;
+    private final StorageMode storageMode;
+
+    public LeagueGenerationService(LeagueRepository leagueRepository,
+                                   TeamRepository teamRepository,
+                                   PlayerBulkRepository playerBulkRepository,
+                                   @Value("${warriorfoot.league.storage-mode:EAGER}") StorageMode storageMode) {
+        this.leagueRepository = leagueRepository;
+        this.teamRepository = teamRepository;
+        this.playerBulkRepository = playerBulkRepository;
+        this.storageMode = storageMode;
+    }
+
+    @Transactional
+    public League generateLeague(String leagueName, boolean pooled) {
+        long start = System.nanoTime();
+
+        LeagueGenerator generator = new LeagueGenerator(ThreadLocalRandom.current().nextLong());
+
+        League league = new League();
+        league.setName(leagueName);
+        league.setSeed(generator.getSeed());
+        league.setPooled(pooled);
+        league = leagueRepository.save(league);
+
+        if (storageMode == StorageMode.LAZY) {
+            // Only teams and their roster seeds are stored; rosters are regenerated on read
+            List<Team> teams = generator.generateTeams(league);
+            teams.forEach(team -> team.setRosterMaterialized(false));
+            teamRepository.saveAll(teams);
+
+            log.debug("Provisioned seed-only league {} with {} teams in {} ms",
+                league.getId(), teams.size(), (System.nanoTime() - start) / 1_000_000);
+            return league;
+        }
+
+        LeagueGenerator.GeneratedLeague generated = generator.generate(league);
+        // Flush league and teams (one batched INSERT each) so players can reference them over JDBC
+        List<Team> teams = teamRepository.saveAllAndFlush(generated.teams());
+
+        List<Player> players = generated.players();
+        int playerBatches = playerBulkRepository.insertAll(players);
+
+        log.debug("Provisioned league {} with {} teams and {} players ({} player batches) in {} ms",
+            league.getId(), teams.size(), players.size(), playerBatches,
+            (System.nanoTime() - start) / 1_000_000);
+
+        return league;
+    }
+}
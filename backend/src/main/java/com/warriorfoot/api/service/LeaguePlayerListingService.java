@@ -0,0 +1,59 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.dto.PlayerPageDTO;
+import com.warriorfoot.api.model.dto.PlayerSearchResultDTO;
+import com.warriorfoot.api.repository.LeagueRepository;
+import com.warriorfoot.api.repository.PlayerKeysetRepository;
+import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.search.PlayerCursor;
+import com.warriorfoot.api.search.PlayerSearchCriteria.SortKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * League-wide player listing with keyset pagination. Fully stored leagues seek through the
+ * players table; leagues with seed-only rosters page through the in-memory search index with
+ * the same ordering and cursor format.
+ */
+@Service
+public class LeaguePlayerListingService {
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerKeysetRepository playerKeysetRepository;
+    private final PlayerSearchService playerSearchService;
+
+    public LeaguePlayerListingService(LeagueRepository leagueRepository,
+                                      TeamRepository teamRepository,
+                                      PlayerKeysetRepository playerKeysetRepository,
+                                      PlayerSearchService playerSearchService) {
+        this.leagueRepository = leagueRepository;
+        this.teamRepository = teamRepository;
+        this.playerKeysetRepository = playerKeysetRepository;
+        this.playerSearchService = playerSearchService;
+    }
+
+    @Transactional(readOnly = true)
+    public PlayerPageDTO listPlayers(UUID leagueId, SortKey sort, PlayerCursor after, int limit) {
+        if (!leagueRepository.existsByIdAndDeletedAtIsNull(leagueId)) {
+            throw new IllegalArgumentException("League not found");
+        }
+
+        // One extra row tells whether there is a next page without a COUNT
+        List<PlayerSearchResultDTO> rows = teamRepository.existsByLeagueIdAndRosterMaterializedFalse(leagueId)
+            ? playerSearchService.page(leagueId, sort, after, limit + 1)
+            : playerKeysetRepository.findPage(leagueId, sort, after, limit + 1);
+
+        if (rows.size() <= limit) {
+            return new PlayerPageDTO(rows, null);
+        }
+
+        List<PlayerSearchResultDTO> page = rows.subList(0, limit);
+        PlayerSearchResultDTO last = page.get(limit - 1);
+        long value = sort == SortKey.MARKET_VALUE ? last.marketValue() : last.overall();
+        return new PlayerPageDTO(List.copyOf(page), new PlayerCursor(sort, value, last.id()).encode());
+    }
+}
@@ -0,0 +1,130 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.repository.LeagueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a pool of fully generated, unassigned leagues so registration only has to claim one.
+ * The pool is filled up to {@code size} during the off-peak window and kept at {@code min-idle}
+ * the rest of the day.
+ */
+@Service
+public class LeaguePoolService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaguePoolService.class);
+    private static final String POOLED_LEAGUE_NAME = "Pooled League";
+
+    private final LeagueRepository leagueRepository;
+    private final LeagueGenerationService leagueGenerationService;
+
+    private final boolean enabled;
+    private final int size;
+    private final int minIdle;
+    private final int refillBatch;
+    private final int offPeakStartHour;
+    private final int offPeakEndHour;
+
+    private final AtomicLong available = new AtomicLong();
+    private final Timer claimHitTimer;
+    private final Timer claimMissTimer;
+    private final Counter refilledCounter;
+
+    public LeaguePoolService(LeagueRepository leagueRepository,
+                             LeagueGenerationService leagueGenerationService,
+                             MeterRegistry meterRegistry,
+                             @Value("${warriorfoot.league-pool.enabled:false}") boolean enabled,
+                             @Value("${warriorfoot.league-pool.size:20}") int size,
+                             @Value("${warriorfoot.league-pool.min-idle:5}") int minIdle,
+                             @Value("${warriorfoot.league-pool.refill-batch:2}") int refillBatch,
+                             @Value("${warriorfoot.league-pool.off-peak-start-hour:2}") int offPeakStartHour,
+                             @Value("${warriorfoot.league-pool.off-peak-end-hour:6}") int offPeakEndHour) {
+        this.leagueRepository = leagueRepository;
+        this.leagueGenerationService = leagueGenerationService;
+        this.enabled = enabled;
+        this.size = size;
+        this.minIdle = minIdle;
+        this.refillBatch = refillBatch;
+        this.offPeakStartHour = offPeakStartHour;
+        this.offPeakEndHour = offPeakEndHour;
+
+        meterRegistry.gauge("warriorfoot.league.pool.available", available);
+        this.claimHitTimer = Timer.builder("warriorfoot.league.pool.claim")
+            .tag("outcome", "hit")
+            .register(meterRegistry);
+        this.claimMissTimer = Timer.builder("warriorfoot.league.pool.claim")
+            .tag("outcome", "miss")
+            .register(meterRegistry);
+        this.refilledCounter = meterRegistry.counter("warriorfoot.league.pool.refilled");
+    }
+
+    /**
+     * Takes one pooled league out of the pool and renames it. Runs in the caller's transaction,
+     * so a failed registration puts the league back. Concurrent claimers skip locked rows.
+     */
+    @Transactional
+    public Optional<League> claim(String leagueName) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        Optional<League> claimed = leagueRepository.findNextPooledForUpdate();
+        claimed.ifPresent(league -> {
+            league.setPooled(false);
+            league.setName(leagueName);
+            available.updateAndGet(n -> Math.max(0, n - 1));
+        });
+
+        (claimed.isPresent() ? claimHitTimer : claimMissTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claimed;
+    }
+
+    @Scheduled(fixedDelayString = "${warriorfoot.league-pool.refill-interval-ms:30000}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+
+        long current = leagueRepository.countByPooledTrue();
+        available.set(current);
+
+        int target = isOffPeak(LocalTime.now().getHour()) ? size : minIdle;
+        long missing = Math.min(target - current, refillBatch);
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                leagueGenerationService.generateLeague(POOLED_LEAGUE_NAME, true);
+                available.incrementAndGet();
+                refilledCounter.increment();
+            } catch (RuntimeException e) {
+                log.warn("Failed to refill league pool", e);
+                return;
+            }
+        }
+
+        if (missing > 0) {
+            log.debug("League pool refilled with {} leagues ({} available, target {})", missing, available.get(), target);
+        }
+    }
+
+    private boolean isOffPeak(int hour) {
+        if (offPeakStartHour <= offPeakEndHour) {
+            return hour >= offPeakStartHour && hour < offPeakEndHour;
+        }
+        return hour >= offPeakStartHour || hour < offPeakEndHour;
+    }
+}
@@ -0,0 +1,144 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.datasource.PrimaryStickiness;
+import com.warriorfoot.api.model.dto.ProvisioningJobDTO;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.model.entity.UserLeague;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs league creation off the request thread. Job state lives in Redis so any node can
+ * answer a status poll, and completion is pushed to /topic/provisioning/{jobId}.
+ */
+@Service
+public class LeagueProvisioningService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeagueProvisioningService.class);
+
+    private static final String JOB_PREFIX = "provisioning-job:";
+    private static final Duration JOB_TTL = Duration.ofHours(1);
+
+    public enum JobStatus {
+        PENDING, RUNNING, READY, FAILED
+    }
+
+    private final LeagueService leagueService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final ObjectProvider<PrimaryStickiness> primaryStickiness;
+
+    public LeagueProvisioningService(LeagueService leagueService,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     SimpMessagingTemplate messagingTemplate,
+                                     @Qualifier("leagueProvisioningExecutor") ThreadPoolTaskExecutor executor,
+                                     ObjectProvider<PrimaryStickiness> primaryStickiness) {
+        this.leagueService = leagueService;
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.executor = executor;
+        this.primaryStickiness = primaryStickiness;
+    }
+
+    /**
+     * Queues league creation and returns the job id. Throws {@link TaskRejectedException}
+     * when the executor queue is full.
+     */
+    public UUID submit(UUID userId, String leagueName) {
+        UUID jobId = UUID.randomUUID();
+        String key = JOB_PREFIX + jobId;
+
+        Map<String, String> jobData = new HashMap<>();
+        jobData.put("userId", userId.toString());
+        jobData.put("status", JobStatus.PENDING.name());
+        redisTemplate.opsForHash().putAll(key, jobData);
+        redisTemplate.expire(key, JOB_TTL);
+
+        try {
+            executor.execute(() -> run(jobId, userId, leagueName));
+        } catch (TaskRejectedException e) {
+            redisTemplate.delete(key);
+            throw e;
+        }
+
+        return jobId;
+    }
+
+    public Optional<ProvisioningJobDTO> getJob(UUID jobId, UUID userId) {
+        Map<Object, Object> job = redisTemplate.opsForHash().entries(JOB_PREFIX + jobId);
+        if (job.isEmpty() || !userId.toString().equals(job.get("userId"))) {
+            return Optional.empty();
+        }
+        return Optional.of(toDTO(jobId, job));
+    }
+
+    private void run(UUID jobId, UUID userId, String leagueName) {
+        String key = JOB_PREFIX + jobId;
+
+        Map<String, String> result = new HashMap<>();
+        try {
+            redisTemplate.opsForHash().put(key, "status", JobStatus.RUNNING.name());
+
+            UserLeague userLeague = leagueService.createNewLeagueForUser(userId, leagueName);
+            // Committed off the request thread, so nothing else pins the user before they fetch the league
+            primaryStickiness.ifAvailable(stickiness -> stickiness.pin(userId));
+            Team team = userLeague.getTeam();
+            result.put("status", JobStatus.READY.name());
+            result.put("leagueId", userLeague.getLeagueId().toString());
+            result.put("teamId", team.getId().toString());
+            result.put("teamName", team.getName());
+            result.put("divisionLevel", team.getDivisionLevel().toString());
+        } catch (RuntimeException e) {
+            log.warn("League provisioning job {} failed", jobId, e);
+            result.clear();
+            result.put("status", JobStatus.FAILED.name());
+            result.put("error", "Failed to create league");
+        }
+
+        // The terminal event goes out even if the job hash cannot be updated, so a client
+        // waiting on the topic is never left hanging
+        try {
+            redisTemplate.opsForHash().putAll(key, result);
+            redisTemplate.expire(key, JOB_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record result of league provisioning job {}", jobId, e);
+        }
+
+        try {
+            Map<Object, Object> job = new HashMap<>(result);
+            messagingTemplate.convertAndSend("/topic/provisioning/" + jobId, toDTO(jobId, job));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish result of league provisioning job {}", jobId, e);
+        }
+    }
+
+    private ProvisioningJobDTO toDTO(UUID jobId, Map<Object, Object> job) {
+        String leagueId = (String) job.get("leagueId");
+        String teamId = (String) job.get("teamId");
+        String divisionLevel = (String) job.get("divisionLevel");
+
+        return new ProvisioningJobDTO(
+            jobId,
+            (String) job.get("status"),
+            leagueId != null ? UUID.fromString(leagueId) : null,
+            teamId != null ? UUID.fromString(teamId) : null,
+            (String) job.get("teamName"),
+            divisionLevel != null ? Integer.valueOf(divisionLevel) : null,
+            (String) job.get("error")
+        );
+    }
+}
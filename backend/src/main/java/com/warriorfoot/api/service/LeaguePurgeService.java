@@ -0,0 +1,90 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.repository.LeaguePurgeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Physically removes leagues that {@link LeagueService#deleteLeague} tombstoned. Players are
+ * deleted in bounded chunks with a pause in between, at most {@code max-chunks-per-run} chunks
+ * per run, so a purge never shows up as one large lock-holding transaction or WAL burst.
+ */
+@Service
+public class LeaguePurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaguePurgeService.class);
+
+    private final LeaguePurgeRepository leaguePurgeRepository;
+
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMs;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter purgedPlayers;
+    private final Counter purgedLeagues;
+
+    public LeaguePurgeService(LeaguePurgeRepository leaguePurgeRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${warriorfoot.league-purge.chunk-size:200}") int chunkSize,
+                              @Value("${warriorfoot.league-purge.max-chunks-per-run:20}") int maxChunksPerRun,
+                              @Value("${warriorfoot.league-purge.chunk-pause-ms:50}") long chunkPauseMs) {
+        this.leaguePurgeRepository = leaguePurgeRepository;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunkPauseMs = chunkPauseMs;
+
+        meterRegistry.gauge("warriorfoot.league.purge.backlog", backlog);
+        this.purgedPlayers = meterRegistry.counter("warriorfoot.league.purge.players");
+        this.purgedLeagues = meterRegistry.counter("warriorfoot.league.purge.leagues");
+    }
+
+    @Scheduled(fixedDelayString = "${warriorfoot.league-purge.interval-ms:10000}")
+    public void purge() {
+        backlog.set(leaguePurgeRepository.countTombstonedLeagues());
+
+        int chunks = 0;
+        List<UUID> leagueIds = leaguePurgeRepository.findTombstonedLeagueIds(maxChunksPerRun);
+        for (UUID leagueId : leagueIds) {
+            while (chunks < maxChunksPerRun) {
+                int deleted = leaguePurgeRepository.deletePlayersChunk(leagueId, chunkSize);
+                chunks++;
+                purgedPlayers.increment(deleted);
+                if (deleted < chunkSize) {
+                    break;
+                }
+                if (!pause()) {
+                    return;
+                }
+            }
+            if (chunks >= maxChunksPerRun) {
+                return;
+            }
+
+            if (leaguePurgeRepository.deleteLeague(leagueId) > 0) {
+                purgedLeagues.increment();
+                backlog.updateAndGet(n -> Math.max(0, n - 1));
+                log.debug("Purged league {}", leagueId);
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
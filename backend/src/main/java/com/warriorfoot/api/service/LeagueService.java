@@ -1,24 +1,27 @@
 package com.warriorfoot.api.service;
 
+import com.warriorfoot.api.cache.LeagueDashboardCache;
+import com.warriorfoot.api.cache.ReadModelCache;
 import com.warriorfoot.api.config.GameConstants;
 import com.warriorfoot.api.model.dto.LeagueDTO;
 import com.warriorfoot.api.model.dto.TeamDTO;
+import com.warriorfoot.api.model.dto.UserLeagueDTO;
 import com.warriorfoot.api.model.entity.League;
-import com.warriorfoot.api.model.entity.Player;
 import com.warriorfoot.api.model.entity.Team;
 import com.warriorfoot.api.model.entity.UserLeague;
 import com.warriorfoot.api.repository.LeagueRepository;
-import com.warriorfoot.api.repository.PlayerRepository;
 import com.warriorfoot.api.repository.TeamRepository;
 import com.warriorfoot.api.repository.UserLeagueRepository;
-import com.warriorfoot.api.util.PlayerFactory;
-import com.warriorfoot.api.util.TeamFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,38 +31,46 @@ public class LeagueService {
 
     private final LeagueRepository leagueRepository;
     private final TeamRepository teamRepository;
-    private final PlayerRepository playerRepository;
     private final UserLeagueRepository userLeagueRepository;
+    private final LeagueGenerationService leagueGenerationService;
+    private final LeaguePoolService leaguePoolService;
+    private final LeagueDashboardCache leagueDashboardCache;
+    private final ReadModelCache readModelCache;
+    private final EntityManager entityManager;
+    private final PlayerSearchService playerSearchService;
 
     public LeagueService(LeagueRepository leagueRepository,
                          TeamRepository teamRepository,
-                         PlayerRepository playerRepository,
-                         UserLeagueRepository userLeagueRepository) {
+                         UserLeagueRepository userLeagueRepository,
+                         LeagueGenerationService leagueGenerationService,
+                         LeaguePoolService leaguePoolService,
+                         LeagueDashboardCache leagueDashboardCache,
+                         ReadModelCache readModelCache,
+                         EntityManager entityManager,
+                         PlayerSearchService playerSearchService) {
         this.leagueRepository = leagueRepository;
         this.teamRepository = teamRepository;
-        this.playerRepository = playerRepository;
         this.userLeagueRepository = userLeagueRepository;
+        this.leagueGenerationService = leagueGenerationService;
+        this.leaguePoolService = leaguePoolService;
+        this.leagueDashboardCache = leagueDashboardCache;
+        this.readModelCache = readModelCache;
+        this.entityManager = entityManager;
+        this.playerSearchService = playerSearchService;
     }
 
     @Transactional
     public UUID createLeagueForUser(UUID userId, String leagueName) {
-        League league = new League();
-        league.setName(leagueName);
-        league = leagueRepository.save(league);
-
-        TeamFactory teamFactory = new TeamFactory();
-        List<Team> teams = teamFactory.generateTeams(league, GameConstants.TOTAL_TEAMS_PER_LEAGUE);
-        teams = teamRepository.saveAll(teams);
-
-        PlayerFactory playerFactory = new PlayerFactory();
-        for (Team team : teams) {
-            List<Player> players = playerFactory.generatePlayersForTeam(team);
-            playerRepository.saveAll(players);
-        }
+        return provisionLeagueForUser(userId, leagueName).getLeagueId();
+    }
 
-        List<Team> division4Teams = teams.stream()
-            .filter(t -> t.getDivisionLevel() == GameConstants.STARTING_DIVISION)
-            .toList();
+    private UserLeague provisionLeagueForUser(UUID userId, String leagueName) {
+        League league = leaguePoolService.claim(leagueName)
+            .orElseGet(() -> leagueGenerationService.generateLeague(leagueName, false));
+        league.setCreatorId(userId);
+
+        List<Team> division4Teams = teamRepository.findByLeagueIdAndDivisionLevel(
+            league.getId(), GameConstants.STARTING_DIVISION);
 
         Team assignedTeam = division4Teams.get(new Random().nextInt(division4Teams.size()));
 
@@ -67,13 +78,15 @@ public class LeagueService {
         userLeague.setUserId(userId);
         userLeague.setLeagueId(league.getId());
         userLeague.setTeam(assignedTeam);
-        userLeagueRepository.save(userLeague);
-
-        return league.getId();
+        userLeague = userLeagueRepository.save(userLeague);
+        membershipChanged(league.getId(), assignedTeam);
+        return userLeague;
     }
 
     @Transactional
     public void assignUserToLeague(UUID userId, UUID leagueId) {
+        requireActiveLeague(leagueId);
+
         List<Team> availableTeams = teamRepository.findAvailableTeamsByLeague(leagueId);
 
         if (availableTeams.isEmpty()) {
@@ -96,10 +109,13 @@ public class LeagueService {
         userLeague.setLeagueId(leagueId);
         userLeague.setTeam(assignedTeam);
         userLeagueRepository.save(userLeague);
+        membershipChanged(leagueId, assignedTeam);
     }
 
     @Transactional
     public void assignUserToLeagueWithTeam(UUID userId, UUID leagueId, UUID teamId) {
+        requireActiveLeague(leagueId);
+
         // Verify team exists and is in the league
         Team team = teamRepository.findById(teamId)
             .orElseThrow(() -> new IllegalArgumentException("Team not found"));
@@ -124,52 +140,45 @@ public class LeagueService {
         userLeague.setLeagueId(leagueId);
         userLeague.setTeam(team);
         userLeagueRepository.save(userLeague);
+        membershipChanged(leagueId, team);
     }
 
     public List<UserLeague> getUserLeagues(UUID userId) {
-        return userLeagueRepository.findByUserId(userId);
+        return userLeagueRepository.findActiveByUserId(userId);
     }
 
     @Transactional(readOnly = true)
-    public List<com.warriorfoot.api.model.dto.UserLeagueDTO> getUserLeaguesWithCreatorFlag(UUID userId) {
-        List<UserLeague> userLeagues = userLeagueRepository.findByUserId(userId);
-
-        return userLeagues.stream()
-            .map(ul -> {
-                // Find the creator of this league (earliest joiner)
-                UserLeague creator = userLeagueRepository.findFirstByLeagueIdOrderByJoinedAtAsc(ul.getLeagueId())
-                    .orElse(null);
-
-                boolean isCreator = creator != null && creator.getUserId().equals(userId);
-
-                League league = leagueRepository.findById(ul.getLeagueId()).orElse(null);
-                String leagueName = league != null ? league.getName() : "Unknown League";
-
-                return new com.warriorfoot.api.model.dto.UserLeagueDTO(
-                    ul.getLeagueId(),
-                    leagueName,
-                    ul.getTeam().getId(),
-                    ul.getTeam().getName(),
-                    ul.getTeam().getDivisionLevel(),
-                    ul.getJoinedAt(),
-                    isCreator
-                );
-            })
-            .toList();
+    public List<UserLeagueDTO> getUserLeaguesWithCreatorFlag(UUID userId) {
+        return userLeagueRepository.findActiveSummariesByUserId(userId);
     }
 
     @Transactional
-    public UUID createNewLeagueForUser(UUID userId, String leagueName) {
-        UUID leagueId = createLeagueForUser(userId, leagueName);
-        return leagueId;
+    public UserLeague createNewLeagueForUser(UUID userId, String leagueName) {
+        return provisionLeagueForUser(userId, leagueName);
+    }
+
+    public Optional<String> getLeagueETag(UUID leagueId) {
+        return leagueRepository.findVersionById(leagueId).map(String::valueOf);
     }
 
     @Transactional(readOnly = true)
     public LeagueDTO getLeagueDashboard(UUID leagueId) {
+        // Read before building, so the dashboard is at least as new as the version it is cached under
+        long version = leagueRepository.findVersionById(leagueId)
+            .orElseThrow(() -> new IllegalArgumentException("League not found"));
+
+        return leagueDashboardCache.get(leagueId, version).orElseGet(() -> {
+            LeagueDTO dashboard = buildLeagueDashboard(leagueId);
+            leagueDashboardCache.put(leagueId, version, dashboard);
+            return dashboard;
+        });
+    }
+
+    private LeagueDTO buildLeagueDashboard(UUID leagueId) {
         List<Team> teams = teamRepository.findByLeagueId(leagueId);
 
-        // Create a map of teamId to manager name
-        List<UserLeague> userLeagues = userLeagueRepository.findByLeagueId(leagueId);
+        // Create a map of teamId to manager name; users and teams are fetched in the same query
+        List<UserLeague> userLeagues = userLeagueRepository.findWithUserAndTeamByLeagueId(leagueId);
         Map<UUID, String> teamManagerMap = userLeagues.stream()
             .collect(Collectors.toMap(
                 ul -> ul.getTeam().getId(),
@@ -199,21 +208,19 @@ public class LeagueService {
     @Transactional
     public void deleteLeague(UUID userId, UUID leagueId) {
         // Verify league exists
-        if (!leagueRepository.existsById(leagueId)) {
-            throw new IllegalArgumentException("League not found");
-        }
-
-        // Find the league creator (earliest joiner)
-        UserLeague creator = userLeagueRepository.findFirstByLeagueIdOrderByJoinedAtAsc(leagueId)
-            .orElseThrow(() -> new IllegalStateException("League has no members"));
+        League league = leagueRepository.findById(leagueId)
+            .filter(l -> l.getDeletedAt() == null)
+            .orElseThrow(() -> new IllegalArgumentException("League not found"));
 
         // Verify requesting user is the creator
-        if (!creator.getUserId().equals(userId)) {
+        if (!userId.equals(league.getCreatorId())) {
             throw new IllegalArgumentException("Only league creator can delete the league");
         }
 
-        // Delete league (cascade delete will handle teams, players, user_leagues, invites)
-        leagueRepository.deleteById(leagueId);
+        // Tombstone only; LeaguePurgeService removes players, teams, memberships and invites in chunks
+        league.setDeletedAt(LocalDateTime.now());
+        leagueDashboardCache.evictAfterCommit(leagueId);
+        playerSearchService.evictAfterCommit(leagueId);
     }
 
     @Transactional
@@ -222,16 +229,35 @@ public class LeagueService {
         UserLeague userLeague = userLeagueRepository.findByUserIdAndLeagueId(userId, leagueId)
             .orElseThrow(() -> new IllegalArgumentException("You are not a member of this league"));
 
-        // Find the league creator (earliest joiner)
-        UserLeague creator = userLeagueRepository.findFirstByLeagueIdOrderByJoinedAtAsc(leagueId)
-            .orElseThrow(() -> new IllegalStateException("League has no members"));
-
         // Prevent creator from leaving
-        if (creator.getUserId().equals(userId)) {
+        if (userId.equals(userLeague.getLeague().getCreatorId())) {
             throw new IllegalStateException("League creator cannot leave. Delete the league instead.");
         }
 
         // Remove user from league
         userLeagueRepository.delete(userLeague);
+        membershipChanged(leagueId, userLeague.getTeam());
+    }
+
+    /**
+     * A join racing a concurrent delete still fails: the delete bumps the league version and
+     * {@link #membershipChanged} force-increments it, so one of the two commits is rejected.
+     */
+    private void requireActiveLeague(UUID leagueId) {
+        if (!leagueRepository.existsByIdAndDeletedAtIsNull(leagueId)) {
+            throw new IllegalArgumentException("League not found");
+        }
+    }
+
+    /**
+     * Membership changes alter the dashboard and the team card without touching the league or
+     * team rows, so their versions (which back the ETags) are force-incremented at commit.
+     */
+    private void membershipChanged(UUID leagueId, Team team) {
+        entityManager.find(League.class, leagueId, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        entityManager.lock(team, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+        leagueDashboardCache.evictAfterCommit(leagueId);
+        readModelCache.invalidateTeamAfterCommit(team.getId());
     }
 }
@@ -0,0 +1,85 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.repository.LeagueRepository;
+import com.warriorfoot.api.repository.PlayerRepository;
+import com.warriorfoot.api.repository.PlayerRepository.PlayerSnapshotView;
+import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.snapshot.SnapshotFormat;
+import com.warriorfoot.api.snapshot.SnapshotWriter;
+import com.warriorfoot.api.util.LeagueGenerator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams a whole league to an output stream. Stored players come from a server-side cursor
+ * and seed-only rosters are regenerated one team at a time, so memory use does not grow with
+ * league size.
+ */
+@Service
+public class LeagueSnapshotService {
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+
+    public LeagueSnapshotService(LeagueRepository leagueRepository,
+                                 TeamRepository teamRepository,
+                                 PlayerRepository playerRepository) {
+        this.leagueRepository = leagueRepository;
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    public boolean exists(UUID leagueId) {
+        return leagueRepository.existsByIdAndDeletedAtIsNull(leagueId);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeSnapshot(UUID leagueId, SnapshotFormat format, OutputStream out) throws IOException {
+        League league = leagueRepository.findById(leagueId)
+            .filter(l -> l.getDeletedAt() == null)
+            .orElseThrow(() -> new IllegalArgumentException("League not found"));
+        List<Team> teams = teamRepository.findByLeagueId(leagueId);
+
+        SnapshotWriter writer = format.open(out);
+        writer.writeLeague(league);
+        for (Team team : teams) {
+            writer.writeTeam(team);
+        }
+
+        try (Stream<PlayerSnapshotView> players = playerRepository.streamSnapshotByLeagueId(leagueId)) {
+            players.forEach(p -> {
+                try {
+                    writer.writePlayer(p.getTeamId(), p.getId(), p.getName(), p.getAge(), p.getPosition(),
+                        p.getOverall(), p.getMarketValue(), p.getStats());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        for (Team team : teams) {
+            if (team.isRosterMaterialized()) {
+                continue;
+            }
+            for (Player p : LeagueGenerator.generateVirtualRoster(team)) {
+                writer.writePlayer(team.getId(), p.getId(), p.getName(), p.getAge(), p.getPosition(),
+                    p.getOverall(), p.getMarketValue(), p.getStats());
+            }
+        }
+
+        writer.finish();
+    }
+}
@@ -0,0 +1,128 @@
+package com.warriorfoot.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.warriorfoot.api.cache.ReadModelCache;
+import com.warriorfoot.api.datasource.PrimaryStickiness;
+import com.warriorfoot.api.model.dto.PlayerSearchResultDTO;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.repository.LeagueRepository;
+import com.warriorfoot.api.repository.PlayerRepository;
+import com.warriorfoot.api.repository.PlayerRepository.PlayerSnapshotView;
+import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.search.PlayerCursor;
+import com.warriorfoot.api.search.PlayerSearchCriteria;
+import com.warriorfoot.api.search.PlayerSearchIndex;
+import com.warriorfoot.api.util.LeagueGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Scouting queries over per-league in-memory indexes. An index is built from the database on
+ * first use and dropped when a player invalidation message names one of its players, so
+ * queries never touch PostgreSQL while the index is cached.
+ */
+@Service
+public class PlayerSearchService {
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadModelCache readModelCache;
+
+    private final Cache<UUID, PlayerSearchIndex> indexes;
+    private final Timer buildTimer;
+
+    public PlayerSearchService(LeagueRepository leagueRepository,
+                               TeamRepository teamRepository,
+                               PlayerRepository playerRepository,
+                               PlatformTransactionManager transactionManager,
+                               ReadModelCache readModelCache,
+                               MeterRegistry meterRegistry,
+                               @Value("${warriorfoot.search.max-leagues:200}") long maxLeagues,
+                               @Value("${warriorfoot.search.expire-after-access-minutes:30}") long expireMinutes) {
+        this.leagueRepository = leagueRepository;
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readModelCache = readModelCache;
+
+        this.indexes = Caffeine.newBuilder()
+            .maximumSize(maxLeagues)
+            .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "player-search-index");
+        this.buildTimer = meterRegistry.timer("warriorfoot.search.index.build");
+
+        readModelCache.addPlayerInvalidationListener(this::invalidatePlayer);
+        readModelCache.addLeagueInvalidationListener(indexes::invalidate);
+    }
+
+    public List<PlayerSearchResultDTO> search(UUID leagueId, PlayerSearchCriteria criteria) {
+        return indexes.get(leagueId, this::build).search(criteria);
+    }
+
+    /**
+     * Keyset page over the league's index, for leagues whose rosters are not all in the players
+     * table.
+     */
+    public List<PlayerSearchResultDTO> page(UUID leagueId, PlayerSearchCriteria.SortKey sort, PlayerCursor after,
+                                            int limit) {
+        return indexes.get(leagueId, this::build).page(sort, after, limit);
+    }
+
+    /**
+     * Drops the league's index on every node once the current transaction commits, e.g. when
+     * the league is deleted.
+     */
+    public void evictAfterCommit(UUID leagueId) {
+        readModelCache.invalidateLeagueAfterCommit(leagueId);
+    }
+
+    // Read from the primary: the index is kept until invalidated, so it must not start out
+    // behind a lagging replica
+    private PlayerSearchIndex build(UUID leagueId) {
+        return buildTimer.record(() -> PrimaryStickiness.onPrimary(() -> readOnlyTransaction.execute(status -> {
+            if (!leagueRepository.existsByIdAndDeletedAtIsNull(leagueId)) {
+                throw new IllegalArgumentException("League not found");
+            }
+
+            PlayerSearchIndex.Builder builder = PlayerSearchIndex.builder();
+            try (Stream<PlayerSnapshotView> players = playerRepository.streamSnapshotByLeagueId(leagueId)) {
+                players.forEach(p -> builder.add(p.getId(), p.getTeamId(), p.getName(), p.getAge(),
+                    p.getPosition(), p.getOverall(), p.getMarketValue()));
+            }
+            for (Team team : teamRepository.findByLeagueId(leagueId)) {
+                if (!team.isRosterMaterialized()) {
+                    for (Player p : LeagueGenerator.generateVirtualRoster(team)) {
+                        builder.add(p.getId(), team.getId(), p.getName(), p.getAge(), p.getPosition(),
+                            p.getOverall(), p.getMarketValue());
+                    }
+                }
+            }
+            return builder.build();
+        })));
+    }
+
+    private void invalidatePlayer(UUID playerId) {
+        indexes.asMap().forEach((leagueId, index) -> {
+            if (index.contains(playerId)) {
+                indexes.invalidate(leagueId);
+            }
+        });
+    }
+}
@@ -1,27 +1,48 @@
 package com.warriorfoot.api.service;
 
+import com.warriorfoot.api.cache.ReadModelCache;
 import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
 import com.warriorfoot.api.model.entity.Player;
-import com.warriorfoot.api.repository.PlayerRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class PlayerService {
 
-    private final PlayerRepository playerRepository;
+    private final RosterService rosterService;
+    private final ReadModelCache readModelCache;
 
-    public PlayerService(PlayerRepository playerRepository) {
-        this.playerRepository = playerRepository;
+    public PlayerService(RosterService rosterService, ReadModelCache readModelCache) {
+        this.rosterService = rosterService;
+        this.readModelCache = readModelCache;
+    }
+
+    public Optional<String> getPlayerETag(UUID playerId) {
+        return rosterService.findPlayerVersion(playerId).map(String::valueOf);
     }
 
-    @Transactional(readOnly = true)
     public PlayerDetailsDTO getPlayerDetails(UUID playerId) {
-        Player p = playerRepository.findById(playerId)
-            .orElseThrow(() -> new IllegalArgumentException("Player not found"));
-        
+        return readModelCache.players().get(playerId, id -> rosterService.findPlayerDetails(id)
+            .orElseThrow(() -> new IllegalArgumentException("Player not found")));
+    }
+
+    /**
+     * Returns the details of every known id, in request order with duplicates removed.
+     */
+    public List<PlayerDetailsDTO> getPlayerDetails(List<UUID> playerIds) {
+        Set<UUID> ids = new LinkedHashSet<>(playerIds);
+        Map<UUID, PlayerDetailsDTO> found = readModelCache.players().getAll(ids, rosterService::findPlayerDetailsByIds);
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    public static PlayerDetailsDTO toDetailsDTO(Player p) {
         return new PlayerDetailsDTO(
             p.getId(),
             p.getName(),
@@ -0,0 +1,144 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.dto.PlayerDTO;
+import com.warriorfoot.api.model.dto.PlayerDetailsDTO;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import com.warriorfoot.api.repository.PlayerRepository;
+import com.warriorfoot.api.repository.PlayerRepository.PlayerDetailsView;
+import com.warriorfoot.api.repository.PlayerRepository.PlayerListingView;
+import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.util.LeagueGenerator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Single entry point for reading rosters regardless of how the league was stored. Seed-only
+ * teams are regenerated from their roster seed on every read. Nothing writes players yet; a
+ * write path must first store the team's generated roster and set rosterMaterialized.
+ */
+@Service
+public class RosterService {
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+
+    public RosterService(TeamRepository teamRepository, PlayerRepository playerRepository) {
+        this.teamRepository = teamRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Roster listing for a team. Materialized rosters are read through a projection, so no
+     * player entities are loaded or snapshotted.
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerDTO> getRosterListing(UUID teamId) {
+        List<PlayerListingView> rows = playerRepository.findListingByTeamId(teamId);
+        if (!rows.isEmpty()) {
+            return rows.stream()
+                .map(r -> new PlayerDTO(r.getId(), r.getName(), r.getAge(), r.getPosition().name(),
+                    r.getOverall(), r.getMarketValue()))
+                .toList();
+        }
+
+        return teamRepository.findById(teamId)
+            .filter(team -> !team.isRosterMaterialized())
+            .map(LeagueGenerator::generateVirtualRoster)
+            .orElse(List.of())
+            .stream()
+            .map(RosterService::toListingDTO)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PlayerDetailsDTO> findPlayerDetails(UUID playerId) {
+        Optional<PlayerDetailsView> row = playerRepository.findDetailsById(playerId);
+        if (row.isPresent()) {
+            return row.map(RosterService::toDetachedPlayer).map(PlayerService::toDetailsDTO);
+        }
+        return findVirtualPlayer(playerId).map(PlayerService::toDetailsDTO);
+    }
+
+    /**
+     * Batch lookup of player details: one IN query for stored players and one lookup per
+     * distinct roster seed for seed-only players. Unknown ids are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, PlayerDetailsDTO> findPlayerDetailsByIds(Collection<UUID> playerIds) {
+        Map<UUID, PlayerDetailsDTO> result = new HashMap<>();
+        for (PlayerDetailsView row : playerRepository.findDetailsByIdIn(playerIds)) {
+            result.put(row.getId(), PlayerService.toDetailsDTO(toDetachedPlayer(row)));
+        }
+
+        Map<Long, List<UUID>> virtualIdsBySeed = playerIds.stream()
+            .filter(id -> !result.containsKey(id) && LeagueGenerator.slotOf(id) >= 0)
+            .collect(Collectors.groupingBy(LeagueGenerator::rosterSeedOf));
+        if (virtualIdsBySeed.isEmpty()) {
+            return result;
+        }
+
+        for (Team team : teamRepository.findByRosterSeedIn(virtualIdsBySeed.keySet())) {
+            if (team.isRosterMaterialized()) {
+                continue;
+            }
+            List<Player> roster = LeagueGenerator.generateVirtualRoster(team);
+            for (UUID id : virtualIdsBySeed.get(team.getRosterSeed())) {
+                result.put(id, PlayerService.toDetailsDTO(roster.get(LeagueGenerator.slotOf(id))));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Version used as the player's ETag. Seed-only players are deterministic until they are
+     * materialized, which happens at version 0, so they report 0 as well.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findPlayerVersion(UUID playerId) {
+        Optional<Long> version = playerRepository.findVersionById(playerId);
+        if (version.isPresent() || LeagueGenerator.slotOf(playerId) < 0) {
+            return version;
+        }
+
+        return teamRepository.findRosterMaterializedByRosterSeed(LeagueGenerator.rosterSeedOf(playerId))
+            .filter(materialized -> !materialized)
+            .map(materialized -> 0L);
+    }
+
+    private Optional<Player> findVirtualPlayer(UUID playerId) {
+        int slot = LeagueGenerator.slotOf(playerId);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+
+        return teamRepository.findByRosterSeed(LeagueGenerator.rosterSeedOf(playerId))
+            .filter(team -> !team.isRosterMaterialized())
+            .map(team -> LeagueGenerator.generateVirtualRoster(team).get(slot));
+    }
+
+    private static PlayerDTO toListingDTO(Player p) {
+        return new PlayerDTO(p.getId(), p.getName(), p.getAge(), p.getPosition().name(),
+            p.getOverall(), p.getMarketValue());
+    }
+
+    private static Player toDetachedPlayer(PlayerDetailsView row) {
+        Player player = new Player();
+        player.setId(row.getId());
+        player.setName(row.getName());
+        player.setAge(row.getAge());
+        player.setPosition(row.getPosition());
+        player.setOverall(row.getOverall());
+        player.setMarketValue(row.getMarketValue());
+        player.setStats(row.getStats());
+        return player;
+    }
+}
@@ -1,74 +1,148 @@
 package com.warriorfoot.api.service;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import com.warriorfoot.api.datasource.PrimaryStickiness;
+import com.warriorfoot.api.security.SessionPrincipal;
+import com.warriorfoot.api.security.SessionRevocationList;
+import com.warriorfoot.api.security.SignedSessionTokens;
+import com.warriorfoot.api.session.SessionStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Issues and resolves session tokens. Opaque tokens are random ids looked up in the configured
+ * {@link SessionStore} (by default a near cache over Redis).
+ * <p>
+ * In {@link TokenMode#SIGNED} mode new sessions are stateless {@link SignedSessionTokens} and
+ * logout adds them to the {@link SessionRevocationList}. Both token kinds are accepted in
+ * either mode (when a signing key is configured), so switching modes does not log anyone out.
+ */
 @Service
 public class SessionService {
 
-    private static final String SESSION_PREFIX = "session:";
     private static final Duration SESSION_TTL = Duration.ofHours(24);
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    public enum TokenMode {
+        OPAQUE,
+        SIGNED
+    }
 
-    public SessionService(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    private final SessionStore sessionStore;
+    private final SessionRevocationList revocationList;
+    private final TokenMode tokenMode;
+    private final SignedSessionTokens signedTokens;
+    private final ObjectProvider<PrimaryStickiness> primaryStickiness;
+
+    public SessionService(SessionStore sessionStore,
+                          SessionRevocationList revocationList,
+                          ObjectProvider<PrimaryStickiness> primaryStickiness,
+                          @Value("${warriorfoot.session.token-mode:OPAQUE}") TokenMode tokenMode,
+                          @Value("${warriorfoot.session.signing-key:}") String signingKey) {
+        this.sessionStore = sessionStore;
+        this.revocationList = revocationList;
+        this.tokenMode = tokenMode;
+        this.primaryStickiness = primaryStickiness;
+        if (!signingKey.isBlank()) {
+            this.signedTokens = new SignedSessionTokens(Base64.getDecoder().decode(signingKey));
+        } else if (tokenMode == TokenMode.SIGNED) {
+            throw new IllegalStateException("warriorfoot.session.signing-key is required for signed session tokens");
+        } else {
+            this.signedTokens = null;
+        }
     }
 
     public String createSession(UUID userId, UUID activeLeagueId) {
-        String token = UUID.randomUUID().toString();
-        String key = SESSION_PREFIX + token;
-
-        Map<String, String> sessionData = new HashMap<>();
-        sessionData.put("userId", userId.toString());
-        sessionData.put("activeLeagueId", activeLeagueId.toString());
-
-        redisTemplate.opsForHash().putAll(key, sessionData);
-        redisTemplate.expire(key, SESSION_TTL);
+        String token;
+        if (tokenMode == TokenMode.SIGNED) {
+            token = signedTokens.issue(userId, activeLeagueId, Instant.now().plus(SESSION_TTL));
+        } else {
+            token = UUID.randomUUID().toString();
+            sessionStore.save(token, new SessionPrincipal(userId, activeLeagueId), SESSION_TTL);
+        }
 
+        // Register and invite-accept write before the client has a token to be pinned by
+        primaryStickiness.ifAvailable(stickiness -> stickiness.sessionIssued(token, userId));
         return token;
     }
 
+    /**
+     * Returns the session's fields, or an empty map if the token is unknown, expired or revoked.
+     */
     public Map<Object, Object> getSession(String token) {
-        String key = SESSION_PREFIX + token;
-        return redisTemplate.opsForHash().entries(key);
+        return resolve(token)
+            .map(principal -> {
+                Map<Object, Object> session = new HashMap<>();
+                session.put("userId", principal.userId().toString());
+                if (principal.activeLeagueId() != null) {
+                    session.put("activeLeagueId", principal.activeLeagueId().toString());
+                }
+                return session;
+            })
+            .orElse(Map.of());
     }
 
-    public void updateActiveLeague(String token, UUID leagueId) {
-        String key = SESSION_PREFIX + token;
-        redisTemplate.opsForHash().put(key, "activeLeagueId", leagueId.toString());
+    /**
+     * Resolves a token to its principal. Opaque tokens cost at most one store lookup (none when
+     * near-cached); signed tokens are verified in-process and only reach Redis on a revocation
+     * filter hit.
+     */
+    public Optional<SessionPrincipal> resolve(String token) {
+        if (SignedSessionTokens.isSigned(token)) {
+            return verifySigned(token).map(claims -> new SessionPrincipal(claims.userId(), claims.activeLeagueId()));
+        }
+        return sessionStore.find(token);
+    }
+
+    /**
+     * Returns the token to use from now on: the same one for opaque sessions, a newly issued
+     * one (with the old one revoked) for signed sessions, whose claims cannot change.
+     */
+    public String updateActiveLeague(String token, UUID leagueId) {
+        if (SignedSessionTokens.isSigned(token)) {
+            SignedSessionTokens.Claims claims = verifySigned(token)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid session"));
+            revocationList.revoke(claims.tokenId(), claims.expiresAt());
+            return signedTokens.issue(claims.userId(), leagueId, claims.expiresAt());
+        }
+
+        sessionStore.updateActiveLeague(token, leagueId);
+        return token;
     }
 
     public void deleteSession(String token) {
-        String key = SESSION_PREFIX + token;
-        redisTemplate.delete(key);
+        if (SignedSessionTokens.isSigned(token)) {
+            verifySigned(token).ifPresent(claims -> revocationList.revoke(claims.tokenId(), claims.expiresAt()));
+            return;
+        }
+        sessionStore.delete(token);
     }
 
     public boolean validateSession(String token) {
-        String key = SESSION_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return resolve(token).isPresent();
     }
 
     public UUID getUserIdFromSession(String token) {
-        Map<Object, Object> session = getSession(token);
-        String userIdStr = (String) session.get("userId");
-        if (userIdStr == null) {
-            throw new IllegalArgumentException("Invalid session");
-        }
-        return UUID.fromString(userIdStr);
+        return resolve(token)
+            .map(SessionPrincipal::userId)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid session"));
     }
 
     public UUID getActiveLeagueIdFromSession(String token) {
-        Map<Object, Object> session = getSession(token);
-        String leagueIdStr = (String) session.get("activeLeagueId");
-        if (leagueIdStr == null) {
-            return null;
+        return resolve(token).map(SessionPrincipal::activeLeagueId).orElse(null);
+    }
+
+    private Optional<SignedSessionTokens.Claims> verifySigned(String token) {
+        if (signedTokens == null) {
+            return Optional.empty();
         }
-        return UUID.fromString(leagueIdStr);
+        return signedTokens.verify(token).filter(claims -> !revocationList.isRevoked(claims.tokenId()));
     }
 }
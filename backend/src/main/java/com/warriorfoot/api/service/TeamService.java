@@ -1,39 +1,74 @@
 package com.warriorfoot.api.service;
 
+import com.warriorfoot.api.cache.ReadModelCache;
 import com.warriorfoot.api.model.dto.PlayerDTO;
 import com.warriorfoot.api.model.dto.TeamDTO;
-import com.warriorfoot.api.model.entity.Player;
 import com.warriorfoot.api.model.entity.Team;
-import com.warriorfoot.api.repository.PlayerRepository;
 import com.warriorfoot.api.repository.TeamRepository;
+import com.warriorfoot.api.repository.UserLeagueRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Team reads go through {@link ReadModelCache}. The methods are deliberately not transactional
+ * so a cache hit never acquires a database connection; each loader query runs on its own.
+ */
 @Service
 public class TeamService {
 
     private final TeamRepository teamRepository;
-    private final PlayerRepository playerRepository;
-    private final com.warriorfoot.api.repository.UserLeagueRepository userLeagueRepository;
+    private final RosterService rosterService;
+    private final UserLeagueRepository userLeagueRepository;
+    private final ReadModelCache readModelCache;
 
-    public TeamService(TeamRepository teamRepository, PlayerRepository playerRepository,
-                       com.warriorfoot.api.repository.UserLeagueRepository userLeagueRepository) {
+    public TeamService(TeamRepository teamRepository, RosterService rosterService,
+                       UserLeagueRepository userLeagueRepository, ReadModelCache readModelCache) {
         this.teamRepository = teamRepository;
-        this.playerRepository = playerRepository;
+        this.rosterService = rosterService;
         this.userLeagueRepository = userLeagueRepository;
+        this.readModelCache = readModelCache;
+    }
+
+    /**
+     * ETag of the team card. The team version is bumped on membership changes, which change the
+     * manager name; the roster listing has its own content-derived ETag.
+     */
+    public Optional<String> getTeamETag(UUID teamId) {
+        return teamRepository.findVersionById(teamId).map(String::valueOf);
     }
 
-    @Transactional(readOnly = true)
     public TeamDTO getTeamById(UUID teamId) {
+        return readModelCache.teams().get(teamId, this::loadTeam);
+    }
+
+    /**
+     * Returns every known team, in request order with duplicates removed.
+     */
+    public List<TeamDTO> getTeamsByIds(List<UUID> teamIds) {
+        Set<UUID> ids = new LinkedHashSet<>(teamIds);
+        Map<UUID, TeamDTO> found = readModelCache.teams().getAll(ids, this::loadTeams);
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    public List<PlayerDTO> getTeamPlayers(UUID teamId) {
+        return readModelCache.teamPlayers().get(teamId, rosterService::getRosterListing);
+    }
+
+    private TeamDTO loadTeam(UUID teamId) {
         Team team = teamRepository.findById(teamId)
             .orElseThrow(() -> new IllegalArgumentException("Team not found"));
 
         // Find the manager (user) who owns this team
-        String managerName = userLeagueRepository.findByTeamId(teamId)
-            .map(userLeague -> userLeague.getUser().getFullName())
+        String managerName = userLeagueRepository.findManagerNameByTeamId(teamId)
             .orElse("No Manager");
 
         return new TeamDTO(
@@ -46,19 +81,8 @@ public class TeamService {
         );
     }
 
-    @Transactional(readOnly = true)
-    public List<PlayerDTO> getTeamPlayers(UUID teamId) {
-        List<Player> players = playerRepository.findByTeamId(teamId);
-        
-        return players.stream()
-            .map(p -> new PlayerDTO(
-                p.getId(),
-                p.getName(),
-                p.getAge(),
-                p.getPosition().name(),
-                p.getOverall(),
-                p.getMarketValue()
-            ))
-            .toList();
+    private Map<UUID, TeamDTO> loadTeams(Set<UUID> teamIds) {
+        return teamRepository.findSummariesByIdIn(teamIds).stream()
+            .collect(Collectors.toMap(TeamDTO::id, Function.identity()));
     }
 }
@@ -0,0 +1,70 @@
+package com.warriorfoot.api.session;
+
+import com.warriorfoot.api.security.SessionPrincipal;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-local store for single-node deployments and for running without Redis. Lookups are
+ * lock-free reads of a ConcurrentHashMap and updates are compare-and-set on immutable entries.
+ * Expired entries are dropped when read and swept every {@link #SWEEP_INTERVAL} saves.
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    private static final int SWEEP_INTERVAL = 4096;
+
+    private record Entry(SessionPrincipal session, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong saves = new AtomicLong();
+
+    @Override
+    public void save(String token, SessionPrincipal session, Duration ttl) {
+        long now = System.nanoTime();
+        sessions.put(token, new Entry(session, now + ttl.toNanos()));
+
+        if (saves.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sessions.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    @Override
+    public Optional<SessionPrincipal> find(String token) {
+        Entry entry = sessions.get(token);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            sessions.remove(token, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.session());
+    }
+
+    @Override
+    public void updateActiveLeague(String token, UUID leagueId) {
+        Entry current;
+        Entry updated;
+        do {
+            current = sessions.get(token);
+            if (current == null || current.isExpired(System.nanoTime())) {
+                return;
+            }
+            updated = new Entry(new SessionPrincipal(current.session().userId(), leagueId), current.expiresAtNanos());
+        } while (!sessions.replace(token, current, updated));
+    }
+
+    @Override
+    public void delete(String token) {
+        sessions.remove(token);
+    }
+}
@@ -0,0 +1,94 @@
+package com.warriorfoot.api.session;
+
+import com.warriorfoot.api.security.SessionPrincipal;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sessions as Redis hashes under {@code session:<token>} with the fields {@code userId} and
+ * {@code activeLeagueId}. A session is written with HSET and EXPIRE in one MULTI/EXEC sent as a
+ * single pipeline, so it never exists without a TTL and costs one round trip.
+ */
+public class RedisSessionStore implements SessionStore {
+
+    private static final String SESSION_PREFIX = "session:";
+
+    private static final byte[] USER_ID = bytes("userId");
+    private static final byte[] ACTIVE_LEAGUE_ID = bytes("activeLeagueId");
+
+    // HSET only if the session still exists, so an update never resurrects it without a TTL
+    private static final byte[] UPDATE_IF_EXISTS = bytes(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+        "return redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) end return 0");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisSessionStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(String token, SessionPrincipal session, Duration ttl) {
+        byte[] key = key(token);
+        Map<byte[], byte[]> fields = session.activeLeagueId() != null
+            ? Map.of(USER_ID, bytes(session.userId().toString()),
+                     ACTIVE_LEAGUE_ID, bytes(session.activeLeagueId().toString()))
+            : Map.of(USER_ID, bytes(session.userId().toString()));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.multi();
+            connection.hashCommands().hMSet(key, fields);
+            connection.keyCommands().expire(key, ttl.toSeconds());
+            connection.exec();
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<SessionPrincipal> find(String token) {
+        Map<byte[], byte[]> fields = redisTemplate.execute(
+            (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key(token)));
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UUID userId = null;
+        UUID activeLeagueId = null;
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            String name = new String(field.getKey(), StandardCharsets.UTF_8);
+            String value = new String(field.getValue(), StandardCharsets.UTF_8);
+            if (name.equals("userId")) {
+                userId = UUID.fromString(value);
+            } else if (name.equals("activeLeagueId")) {
+                activeLeagueId = UUID.fromString(value);
+            }
+        }
+        return userId != null ? Optional.of(new SessionPrincipal(userId, activeLeagueId)) : Optional.empty();
+    }
+
+    @Override
+    public void updateActiveLeague(String token, UUID leagueId) {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+            UPDATE_IF_EXISTS, ReturnType.INTEGER, 1, key(token), ACTIVE_LEAGUE_ID, bytes(leagueId.toString())));
+    }
+
+    @Override
+    public void delete(String token) {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(key(token)));
+    }
+
+    private static byte[] key(String token) {
+        return bytes(SESSION_PREFIX + token);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
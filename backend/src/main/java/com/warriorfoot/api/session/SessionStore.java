@@ -0,0 +1,26 @@
+package com.warriorfoot.api.session;
+
+import com.warriorfoot.api.security.SessionPrincipal;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage for opaque session tokens. Implementations must be thread-safe; expired sessions
+ * behave exactly like missing ones.
+ */
+public interface SessionStore {
+
+    void save(String token, SessionPrincipal session, Duration ttl);
+
+    Optional<SessionPrincipal> find(String token);
+
+    /**
+     * Changes the active league of an existing session without touching its expiry. Does
+     * nothing if the session does not exist.
+     */
+    void updateActiveLeague(String token, UUID leagueId);
+
+    void delete(String token);
+}
@@ -0,0 +1,95 @@
+package com.warriorfoot.api.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.warriorfoot.api.security.SessionPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived in-process near cache in front of a shared store, so most lookups never leave
+ * the process. Changes and deletes drop the near copy on every node through {@link #CHANNEL};
+ * the near TTL bounds staleness if a message is lost. Unknown tokens are not cached, and an
+ * invalidation racing a load waits for it, so it cannot be undone by a stale read.
+ */
+public class TieredSessionStore implements SessionStore, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TieredSessionStore.class);
+
+    public static final String CHANNEL = "warriorfoot:session-invalidation";
+
+    private final SessionStore remote;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<String, SessionPrincipal> near;
+
+    public TieredSessionStore(SessionStore remote,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              long nearMaxSize,
+                              Duration nearTtl) {
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.near = Caffeine.newBuilder()
+            .maximumSize(nearMaxSize)
+            .expireAfterWrite(nearTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, near, "session");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void save(String token, SessionPrincipal session, Duration ttl) {
+        remote.save(token, session, ttl);
+        near.put(token, session);
+    }
+
+    @Override
+    public Optional<SessionPrincipal> find(String token) {
+        return Optional.ofNullable(near.get(token, t -> remote.find(t).orElse(null)));
+    }
+
+    @Override
+    public void updateActiveLeague(String token, UUID leagueId) {
+        remote.updateActiveLeague(token, leagueId);
+        invalidate(token);
+    }
+
+    @Override
+    public void delete(String token) {
+        remote.delete(token);
+        invalidate(token);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        near.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void invalidate(String token) {
+        near.invalidate(token);
+
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        byte[] body = token.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish session invalidation", e);
+        }
+    }
+}
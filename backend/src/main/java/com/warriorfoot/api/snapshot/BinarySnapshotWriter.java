@@ -0,0 +1,80 @@
+package com.warriorfoot.api.snapshot;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * Big-endian record stream. Header: magic {@code WFSN}, format version byte, league id
+ * (two longs) and name. Then tagged records until {@link #TAG_END}:
+ * <ul>
+ *   <li>{@link #TAG_TEAM}: id, name, colorPrimary, colorSecondary, division (byte)</li>
+ *   <li>{@link #TAG_PLAYER}: id, teamId, name, age (byte), position ordinal (byte),
+ *       overall (byte), marketValue (long), {@link Player.Stat#COUNT} stat bytes</li>
+ * </ul>
+ * UUIDs are two longs and strings are modified UTF-8 as written by {@link DataOutputStream#writeUTF}.
+ */
+public class BinarySnapshotWriter implements SnapshotWriter {
+
+    public static final int MAGIC = 0x5746534E; // "WFSN"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final int TAG_END = 0;
+    public static final int TAG_TEAM = 1;
+    public static final int TAG_PLAYER = 2;
+
+    private final DataOutputStream out;
+
+    public BinarySnapshotWriter(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    @Override
+    public void writeLeague(League league) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeUuid(league.getId());
+        out.writeUTF(league.getName());
+    }
+
+    @Override
+    public void writeTeam(Team team) throws IOException {
+        out.writeByte(TAG_TEAM);
+        writeUuid(team.getId());
+        out.writeUTF(team.getName());
+        out.writeUTF(team.getColorPrimary());
+        out.writeUTF(team.getColorSecondary());
+        out.writeByte(team.getDivisionLevel());
+    }
+
+    @Override
+    public void writePlayer(UUID teamId, UUID id, String name, int age, Player.Position position,
+                            int overall, long marketValue, byte[] stats) throws IOException {
+        out.writeByte(TAG_PLAYER);
+        writeUuid(id);
+        writeUuid(teamId);
+        out.writeUTF(name);
+        out.writeByte(age);
+        out.writeByte(position.ordinal());
+        out.writeByte(overall);
+        out.writeLong(marketValue);
+        out.write(stats, 0, Player.Stat.COUNT);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.writeByte(TAG_END);
+        out.flush();
+    }
+
+    private void writeUuid(UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+}
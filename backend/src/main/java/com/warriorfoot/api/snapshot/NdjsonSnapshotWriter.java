@@ -0,0 +1,82 @@
+package com.warriorfoot.api.snapshot;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+/**
+ * One JSON object per line, each tagged with {@code type}. The league line lists the stat names
+ * in the order player {@code stats} arrays use.
+ */
+public class NdjsonSnapshotWriter implements SnapshotWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator json;
+
+    public NdjsonSnapshotWriter(OutputStream out) throws IOException {
+        this.json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.json.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void writeLeague(League league) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "league");
+        json.writeStringField("id", league.getId().toString());
+        json.writeStringField("name", league.getName());
+        json.writeArrayFieldStart("stats");
+        for (Player.Stat stat : Player.Stat.values()) {
+            json.writeString(stat.name());
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    @Override
+    public void writeTeam(Team team) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "team");
+        json.writeStringField("id", team.getId().toString());
+        json.writeStringField("name", team.getName());
+        json.writeStringField("colorPrimary", team.getColorPrimary());
+        json.writeStringField("colorSecondary", team.getColorSecondary());
+        json.writeNumberField("divisionLevel", team.getDivisionLevel());
+        json.writeEndObject();
+    }
+
+    @Override
+    public void writePlayer(UUID teamId, UUID id, String name, int age, Player.Position position,
+                            int overall, long marketValue, byte[] stats) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "player");
+        json.writeStringField("id", id.toString());
+        json.writeStringField("teamId", teamId.toString());
+        json.writeStringField("name", name);
+        json.writeNumberField("age", age);
+        json.writeStringField("position", position.name());
+        json.writeNumberField("overall", overall);
+        json.writeNumberField("marketValue", marketValue);
+        json.writeArrayFieldStart("stats");
+        for (byte stat : stats) {
+            json.writeNumber(stat);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        json.writeRaw('\n');
+        json.flush();
+    }
+}
@@ -0,0 +1,35 @@
+package com.warriorfoot.api.snapshot;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum SnapshotFormat {
+    NDJSON(SnapshotFormat.NDJSON_VALUE),
+    BINARY(SnapshotFormat.BINARY_VALUE);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String BINARY_VALUE = "application/vnd.warriorfoot.snapshot";
+
+    private final MediaType mediaType;
+
+    SnapshotFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public SnapshotWriter open(OutputStream out) throws IOException {
+        return this == BINARY ? new BinarySnapshotWriter(out) : new NdjsonSnapshotWriter(out);
+    }
+
+    /**
+     * Picks the binary format only when the client asks for it explicitly.
+     */
+    public static SnapshotFormat fromAccept(String accept) {
+        return accept != null && accept.contains(BINARY_VALUE) ? BINARY : NDJSON;
+    }
+}
@@ -0,0 +1,24 @@
+package com.warriorfoot.api.snapshot;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes a league snapshot record by record: the league header, then all teams, then all
+ * players. Implementations must not buffer more than a single record.
+ */
+public interface SnapshotWriter {
+
+    void writeLeague(League league) throws IOException;
+
+    void writeTeam(Team team) throws IOException;
+
+    void writePlayer(UUID teamId, UUID id, String name, int age, Player.Position position,
+                     int overall, long marketValue, byte[] stats) throws IOException;
+
+    void finish() throws IOException;
+}
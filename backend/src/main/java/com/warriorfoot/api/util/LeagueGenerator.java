@@ -0,0 +1,95 @@
+package com.warriorfoot.api.util;
+
+import com.warriorfoot.api.config.GameConstants;
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Generates a whole league from a single seed. Teams are drawn sequentially from the root
+ * stream (names must stay unique), then every team gets its own roster seed and the rosters
+ * are generated in parallel. The output only depends on the seed, never on scheduling.
+ */
+public class LeagueGenerator {
+
+    private final long seed;
+
+    public LeagueGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GeneratedLeague generate(League league) {
+        List<Team> teams = generateTeams(league);
+
+        List<List<Player>> rosters = IntStream.range(0, teams.size())
+            .parallel()
+            .mapToObj(i -> generateVirtualRoster(teams.get(i)))
+            .toList();
+
+        List<Player> players = new ArrayList<>(teams.size() * GameConstants.PLAYERS_PER_TEAM);
+        rosters.forEach(players::addAll);
+
+        return new GeneratedLeague(teams, players);
+    }
+
+    /**
+     * Generates the teams only, each carrying the seed its roster is generated from.
+     */
+    public List<Team> generateTeams(League league) {
+        SplittableRandom root = new SplittableRandom(seed);
+
+        TeamFactory teamFactory = new TeamFactory(root.split());
+        List<Team> teams = teamFactory.generateTeams(league, GameConstants.TOTAL_TEAMS_PER_LEAGUE);
+
+        for (Team team : teams) {
+            team.setRosterSeed(root.nextLong());
+        }
+        return teams;
+    }
+
+    private static List<Player> generateRoster(Team team, long rosterSeed) {
+        return new PlayerFactory(new SplittableRandom(rosterSeed)).generatePlayersForTeam(team);
+    }
+
+    /**
+     * Generates a team's roster from its roster seed. Player ids are derived from the roster
+     * seed and slot, so stored and seed-only rosters of the same seed have the same ids and
+     * stay stable across regenerations and materialization.
+     */
+    public static List<Player> generateVirtualRoster(Team team) {
+        long rosterSeed = team.getRosterSeed();
+        List<Player> players = generateRoster(team, rosterSeed);
+        for (int slot = 0; slot < players.size(); slot++) {
+            players.get(slot).setId(virtualPlayerId(rosterSeed, slot));
+        }
+        return players;
+    }
+
+    public static UUID virtualPlayerId(long rosterSeed, int slot) {
+        return new UUID(rosterSeed, slot);
+    }
+
+    public static long rosterSeedOf(UUID virtualPlayerId) {
+        return virtualPlayerId.getMostSignificantBits();
+    }
+
+    /**
+     * Returns the roster slot encoded in a virtual player id, or -1 if the id cannot be one.
+     */
+    public static int slotOf(UUID virtualPlayerId) {
+        long slot = virtualPlayerId.getLeastSignificantBits();
+        return slot >= 0 && slot < GameConstants.PLAYERS_PER_TEAM ? (int) slot : -1;
+    }
+
+    public record GeneratedLeague(List<Team> teams, List<Player> players) {}
+}
@@ -7,6 +7,7 @@ import com.warriorfoot.api.model.entity.Team;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import com.warriorfoot.api.util.StatWeights.WeightMode;
 
 public class PlayerFactory {
@@ -27,7 +28,7 @@ public class PlayerFactory {
         "Dubois", "Martin", "Bernard", "Petit", "Robert", "Richard", "Durand", "Leroy", "Moreau", "Simon"
     };
 
-    private final Random random;
+    private final RandomGenerator random;
 
     public PlayerFactory() {
         this.random = new Random();
@@ -37,6 +38,10 @@ public class PlayerFactory {
         this.random = new Random(seed);
     }
 
+    public PlayerFactory(RandomGenerator random) {
+        this.random = random;
+    }
+
     public List<Player> generatePlayersForTeam(Team team) {
         List<Player> players = new ArrayList<>();
         int divisionLevel = team.getDivisionLevel();
@@ -1,8 +1,10 @@
 package com.warriorfoot.api.util;
 
 import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Player.Stat;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class StatWeights {
@@ -14,6 +16,28 @@ public class StatWeights {
 
     private static final Map<Player.Position, Map<String, Double>> POSITIONAL_WEIGHTS = new HashMap<>();
 
+    private static final Stat[] GK_TERMS = {
+        Stat.DIVING, Stat.HANDLING, Stat.KICKING, Stat.REFLEXES, Stat.SPEED, Stat.POSITIONING,
+        Stat.PACE, Stat.PHYSICAL, Stat.SHOOTING, Stat.PASSING, Stat.DRIBBLING, Stat.DEFENDING
+    };
+
+    private static final Stat[] OUTFIELD_TERMS = {
+        Stat.PACE, Stat.SHOOTING, Stat.PASSING, Stat.DRIBBLING, Stat.DEFENDING, Stat.PHYSICAL
+    };
+
+    private static final int[] FIXED_GK_STATS = statIndexes(
+        Stat.DIVING, Stat.HANDLING, Stat.KICKING, Stat.REFLEXES, Stat.SPEED, Stat.POSITIONING,
+        Stat.PACE, Stat.PHYSICAL
+    );
+
+    private static final int[] FIXED_OUTFIELD_STATS = statIndexes(OUTFIELD_TERMS);
+
+    // Compiled tables indexed by Position.ordinal(): stat index and weight per term, summed in
+    // the same order as the original formula so results stay bit-identical
+    private static final int[][] TERM_STATS = new int[Player.Position.values().length][];
+    private static final double[][] TERM_WEIGHTS = new double[Player.Position.values().length][];
+    private static final double[] TOTAL_WEIGHTS = new double[Player.Position.values().length];
+
     static {
         Map<String, Double> gkWeights = new HashMap<>();
         gkWeights.put("diving", 1.5);
@@ -56,62 +80,91 @@ public class StatWeights {
         fwWeights.put("defending", 0.2);
         fwWeights.put("physical", 0.9);
         POSITIONAL_WEIGHTS.put(Player.Position.FW, fwWeights);
+
+        for (Player.Position position : Player.Position.values()) {
+            Map<String, Double> weights = POSITIONAL_WEIGHTS.get(position);
+            Stat[] terms = position == Player.Position.GK ? GK_TERMS : OUTFIELD_TERMS;
+
+            double[] termWeights = new double[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                termWeights[i] = weights.get(weightKey(terms[i]));
+            }
+
+            TERM_STATS[position.ordinal()] = statIndexes(terms);
+            TERM_WEIGHTS[position.ordinal()] = termWeights;
+            TOTAL_WEIGHTS[position.ordinal()] = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        }
     }
 
     public static int calculateOverall(Player player, WeightMode mode) {
+        return calculateOverall(player.getPosition(), player.getStats(), 0, mode);
+    }
+
+    /**
+     * Computes the overall from packed stats starting at {@code offset} (see {@link Player#getStats()}).
+     */
+    public static int calculateOverall(Player.Position position, byte[] stats, int offset, WeightMode mode) {
         if (mode == WeightMode.FIXED) {
-            return calculateFixedOverall(player);
+            return calculateFixedOverall(position, stats, offset);
         } else {
-            return calculatePositionalOverall(player);
+            return calculatePositionalOverall(position, stats, offset);
         }
     }
 
-    private static int calculateFixedOverall(Player player) {
-        int overall;
-        if (player.getPosition() == Player.Position.GK) {
-            overall = (player.getDiving() + player.getHandling() + player.getKicking() +
-                    player.getReflexes() + player.getSpeed() + player.getPositioning() +
-                    player.getPace() + player.getPhysical()) / 8;
-        } else {
-            overall = (player.getPace() + player.getShooting() + player.getPassing() +
-                    player.getDribbling() + player.getDefending() + player.getPhysical()) / 6;
+    /**
+     * Computes overalls for a whole roster into {@code out} without allocating.
+     */
+    public static void calculateOveralls(List<Player> players, WeightMode mode, int[] out) {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            out[i] = calculateOverall(player.getPosition(), player.getStats(), 0, mode);
+        }
+    }
+
+    /**
+     * Computes overalls for {@code positions.length} players whose packed stats are laid out
+     * back to back in {@code stats} ({@link Stat#COUNT} bytes each). Allocation-free.
+     */
+    public static void calculateOveralls(Player.Position[] positions, byte[] stats, WeightMode mode, int[] out) {
+        for (int i = 0; i < positions.length; i++) {
+            out[i] = calculateOverall(positions[i], stats, i * Stat.COUNT, mode);
+        }
+    }
+
+    private static int calculateFixedOverall(Player.Position position, byte[] stats, int offset) {
+        int[] indexes = position == Player.Position.GK ? FIXED_GK_STATS : FIXED_OUTFIELD_STATS;
+        int sum = 0;
+        for (int index : indexes) {
+            sum += stats[offset + index];
+        }
+        return clamp(sum / indexes.length);
+    }
+
+    private static int calculatePositionalOverall(Player.Position position, byte[] stats, int offset) {
+        int[] indexes = TERM_STATS[position.ordinal()];
+        double[] weights = TERM_WEIGHTS[position.ordinal()];
+
+        double weightedSum = 0.0;
+        for (int i = 0; i < indexes.length; i++) {
+            weightedSum += stats[offset + indexes[i]] * weights[i];
         }
+
+        return clamp((int) Math.round(weightedSum / TOTAL_WEIGHTS[position.ordinal()]));
+    }
+
+    private static int clamp(int overall) {
         return Math.max(40, Math.min(99, overall));
     }
 
-    private static int calculatePositionalOverall(Player player) {
-        Map<String, Double> weights = POSITIONAL_WEIGHTS.get(player.getPosition());
-        
-        if (player.getPosition() == Player.Position.GK) {
-            double weightedSum = 
-                player.getDiving() * weights.get("diving") +
-                player.getHandling() * weights.get("handling") +
-                player.getKicking() * weights.get("kicking") +
-                player.getReflexes() * weights.get("reflexes") +
-                player.getSpeed() * weights.get("speed") +
-                player.getPositioning() * weights.get("positioning") +
-                player.getPace() * weights.get("pace") +
-                player.getPhysical() * weights.get("physical") +
-                player.getShooting() * weights.get("shooting") +
-                player.getPassing() * weights.get("passing") +
-                player.getDribbling() * weights.get("dribbling") +
-                player.getDefending() * weights.get("defending");
-            
-            double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
-            int overall = (int) Math.round(weightedSum / totalWeight);
-            return Math.max(40, Math.min(99, overall));
-        } else {
-            double weightedSum =
-                player.getPace() * weights.get("pace") +
-                player.getShooting() * weights.get("shooting") +
-                player.getPassing() * weights.get("passing") +
-                player.getDribbling() * weights.get("dribbling") +
-                player.getDefending() * weights.get("defending") +
-                player.getPhysical() * weights.get("physical");
-            
-            double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
-            int overall = (int) Math.round(weightedSum / totalWeight);
-            return Math.max(40, Math.min(99, overall));
+    private static int[] statIndexes(Stat... stats) {
+        int[] indexes = new int[stats.length];
+        for (int i = 0; i < stats.length; i++) {
+            indexes[i] = stats[i].ordinal();
         }
+        return indexes;
+    }
+
+    private static String weightKey(Stat stat) {
+        return stat.name().toLowerCase();
     }
 }
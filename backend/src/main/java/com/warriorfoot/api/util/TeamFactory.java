@@ -4,8 +4,11 @@ import com.warriorfoot.api.model.entity.League;
 import com.warriorfoot.api.model.entity.Team;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.random.RandomGenerator;
 
 public class TeamFactory {
 
@@ -27,7 +30,7 @@ public class TeamFactory {
         "#FFD700", "#C0C0C0", "#CD7F32", "#FF1493", "#4B0082", "#FF4500"
     };
 
-    private final Random random;
+    private final RandomGenerator random;
 
     public TeamFactory() {
         this.random = new Random();
@@ -37,9 +40,13 @@ public class TeamFactory {
         this.random = new Random(seed);
     }
 
+    public TeamFactory(RandomGenerator random) {
+        this.random = random;
+    }
+
     public List<Team> generateTeams(League league, int totalTeams) {
         List<Team> teams = new ArrayList<>();
-        List<String> usedNames = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
         
         int teamsPerDivision = totalTeams / 4;
         
@@ -58,7 +65,7 @@ public class TeamFactory {
         return teams;
     }
 
-    private String generateUniqueName(List<String> usedNames) {
+    private String generateUniqueName(Set<String> usedNames) {
         String name;
         int attempts = 0;
         do {
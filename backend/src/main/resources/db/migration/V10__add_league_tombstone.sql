@@ -0,0 +1,3 @@
+ALTER TABLE leagues ADD COLUMN deleted_at TIMESTAMP;
+
+CREATE INDEX idx_leagues_deleted ON leagues(deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,5 @@
+-- Covering index for roster listings so they can be answered by an index-only scan.
+-- Supersedes the plain team_id index.
+CREATE INDEX idx_players_team_listing ON players(team_id) INCLUDE (id, name, age, position, overall, market_value);
+
+DROP INDEX IF EXISTS idx_players_team;
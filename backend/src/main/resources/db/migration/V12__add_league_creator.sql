@@ -0,0 +1,11 @@
+ALTER TABLE leagues ADD COLUMN creator_id UUID REFERENCES users(id) ON DELETE SET NULL;
+
+-- Until now the creator was implied as the earliest joiner
+UPDATE leagues l
+SET creator_id = first_member.user_id
+FROM (
+    SELECT DISTINCT ON (league_id) league_id, user_id
+    FROM user_leagues
+    ORDER BY league_id, joined_at
+) first_member
+WHERE first_member.league_id = l.id;
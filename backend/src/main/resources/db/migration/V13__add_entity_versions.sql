@@ -0,0 +1,4 @@
+-- Optimistic-lock versions, also used as ETags for the read endpoints
+ALTER TABLE leagues ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE teams ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE players ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
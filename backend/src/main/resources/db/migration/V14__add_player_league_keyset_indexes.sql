@@ -0,0 +1,9 @@
+-- League-wide player listings page with keyset seeks on (overall, id) and (market_value, id).
+-- An index cannot span players and teams, so the league is denormalized onto players; a team
+-- never changes league, so the column is written once at insert time.
+ALTER TABLE players ADD COLUMN league_id UUID;
+
+UPDATE players p SET league_id = t.league_id FROM teams t WHERE t.id = p.team_id;
+
+CREATE INDEX idx_players_league_overall ON players(league_id, overall DESC, id DESC);
+CREATE INDEX idx_players_league_market_value ON players(league_id, market_value DESC, id DESC);
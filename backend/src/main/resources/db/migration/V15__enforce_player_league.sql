@@ -0,0 +1,11 @@
+-- players.league_id is written by every insert path since V14; make the schema guarantee it.
+-- Catch up rows inserted by nodes still running pre-V14 code during the rollout.
+UPDATE players p SET league_id = t.league_id FROM teams t WHERE t.id = p.team_id AND p.league_id IS NULL;
+
+-- One-time cleanup: players whose team was hard-deleted before leagues were tombstoned
+-- (team_id is ON DELETE SET NULL) belong to no league and are unreachable.
+DELETE FROM players WHERE league_id IS NULL AND team_id IS NULL;
+
+ALTER TABLE players ALTER COLUMN league_id SET NOT NULL;
+ALTER TABLE players ADD CONSTRAINT fk_players_league
+    FOREIGN KEY (league_id) REFERENCES leagues(id) ON DELETE CASCADE;
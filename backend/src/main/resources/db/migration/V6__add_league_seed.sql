@@ -0,0 +1 @@
+ALTER TABLE leagues ADD COLUMN seed BIGINT;
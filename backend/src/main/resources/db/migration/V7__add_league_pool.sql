@@ -0,0 +1,3 @@
+ALTER TABLE leagues ADD COLUMN pooled BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_leagues_pooled ON leagues(created_at) WHERE pooled;
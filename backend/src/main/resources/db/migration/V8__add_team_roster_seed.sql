@@ -0,0 +1,4 @@
+ALTER TABLE teams ADD COLUMN roster_seed BIGINT;
+ALTER TABLE teams ADD COLUMN roster_materialized BOOLEAN NOT NULL DEFAULT TRUE;
+
+CREATE UNIQUE INDEX idx_teams_roster_seed ON teams(roster_seed);
@@ -0,0 +1,93 @@
+-- Pack the 41 attribute columns into one fixed-layout BYTEA (one byte per attribute,
+-- in the order of Player.Stat; 0 = attribute not applicable).
+ALTER TABLE players ADD COLUMN stats BYTEA;
+
+UPDATE players SET stats = decode(
+    lpad(to_hex(COALESCE(pace, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(acceleration, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(sprint_speed, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(shooting, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(att_position, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(finishing, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(shot_power, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(long_shots, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(volleys, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(penalties, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(passing, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(vision, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(crossing, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(fk_acc, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(short_pass, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(long_pass, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(curve, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(dribbling, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(agility, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(balance, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(reactions, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(ball_control, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(dribbling_skill, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(composure, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(defending, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(interceptions, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(heading_acc, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(def_aware, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(stand_tackle, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(slide_tackle, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(physical, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(jumping, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(stamina, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(strength, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(aggression, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(diving, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(handling, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(kicking, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(reflexes, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(speed, 0)), 2, '0') ||
+    lpad(to_hex(COALESCE(positioning, 0)), 2, '0'),
+    'hex');
+
+ALTER TABLE players ALTER COLUMN stats SET NOT NULL;
+ALTER TABLE players ADD CONSTRAINT chk_players_stats_length CHECK (octet_length(stats) = 41);
+
+ALTER TABLE players
+DROP COLUMN pace,
+DROP COLUMN acceleration,
+DROP COLUMN sprint_speed,
+DROP COLUMN shooting,
+DROP COLUMN att_position,
+DROP COLUMN finishing,
+DROP COLUMN shot_power,
+DROP COLUMN long_shots,
+DROP COLUMN volleys,
+DROP COLUMN penalties,
+DROP COLUMN passing,
+DROP COLUMN vision,
+DROP COLUMN crossing,
+DROP COLUMN fk_acc,
+DROP COLUMN short_pass,
+DROP COLUMN long_pass,
+DROP COLUMN curve,
+DROP COLUMN dribbling,
+DROP COLUMN agility,
+DROP COLUMN balance,
+DROP COLUMN reactions,
+DROP COLUMN ball_control,
+DROP COLUMN dribbling_skill,
+DROP COLUMN composure,
+DROP COLUMN defending,
+DROP COLUMN interceptions,
+DROP COLUMN heading_acc,
+DROP COLUMN def_aware,
+DROP COLUMN stand_tackle,
+DROP COLUMN slide_tackle,
+DROP COLUMN physical,
+DROP COLUMN jumping,
+DROP COLUMN stamina,
+DROP COLUMN strength,
+DROP COLUMN aggression,
+DROP COLUMN diving,
+DROP COLUMN handling,
+DROP COLUMN kicking,
+DROP COLUMN reflexes,
+DROP COLUMN speed,
+DROP COLUMN positioning;
@@ -0,0 +1,272 @@
+package com.warriorfoot.api.datasource;
+
+import com.warriorfoot.api.security.SessionPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stickiness rules of {@link PrimaryStickiness}, checked through a hand-built router and lazy
+ * proxy with mock pools, a mock Redis and plain JDBC transactions. The application's own
+ * configuration under JPA is covered by {@link ReplicaRoutingIntegrationTest}.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private DataSource primary;
+    private DataSource replica;
+    private ValueOperations<String, Object> pins;
+    private PrimaryStickiness stickiness;
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        when(replica.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        pins = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(pins);
+
+        stickiness = new PrimaryStickiness(redisTemplate, WINDOW, 1_000);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(stickiness, new SimpleMeterRegistry());
+        routing.setTargetDataSources(Map.<Object, Object>of(
+            ReplicaRoutingDataSource.Target.PRIMARY, primary,
+            ReplicaRoutingDataSource.Target.REPLICA, replica
+        ));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        dataSource = proxy;
+
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stickiness.endRequest();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws SQLException {
+        runInTransaction(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() throws SQLException {
+        runInTransaction(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readsAfterACommittedWriteInTheSameRequestUseThePrimary() throws SQLException {
+        stickiness.beginRequest(null);
+
+        runInTransaction(false);
+        runInTransaction(true);
+
+        verify(primary, times(2)).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void committedWritePinsTheUserAndTokenInRedis() {
+        UUID userId = UUID.randomUUID();
+        authenticate(userId, "request-token");
+        stickiness.beginRequest("request-token");
+
+        runInTransaction(false);
+
+        verify(pins).set("primary-sticky:token:request-token", Boolean.TRUE, WINDOW);
+        verify(pins).set("primary-sticky:user:" + userId, Boolean.TRUE, WINDOW);
+    }
+
+    @Test
+    void tokenIssuedByTheWritingRequestIsPinned() {
+        // Register: no bearer token or principal on the request that writes
+        UUID userId = UUID.randomUUID();
+        stickiness.beginRequest(null);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            touchConnection();
+            stickiness.sessionIssued("issued-token", userId);
+        });
+
+        verify(pins).set("primary-sticky:token:issued-token", Boolean.TRUE, WINDOW);
+        verify(pins).set("primary-sticky:user:" + userId, Boolean.TRUE, WINDOW);
+    }
+
+    @Test
+    void tokenIssuedAfterTheWriteCommittedIsPinned() {
+        // Invite accept: the writes commit before the session is created
+        UUID userId = UUID.randomUUID();
+        stickiness.beginRequest(null);
+
+        runInTransaction(false);
+        stickiness.sessionIssued("issued-token", userId);
+
+        verify(pins).set("primary-sticky:token:issued-token", Boolean.TRUE, WINDOW);
+        verify(pins).set("primary-sticky:user:" + userId, Boolean.TRUE, WINDOW);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pinFromAnotherNodeRoutesReadsToThePrimary() throws SQLException {
+        UUID userId = UUID.randomUUID();
+        authenticate(userId, "other-token");
+        when(pins.multiGet(anyCollection())).thenAnswer(invocation -> {
+            List<Object> values = new ArrayList<>();
+            for (Object key : invocation.getArgument(0, Collection.class)) {
+                values.add(key.equals("primary-sticky:user:" + userId) ? Boolean.TRUE : null);
+            }
+            return values;
+        });
+        stickiness.beginRequest("other-token");
+
+        runInTransaction(true);
+        runInTransaction(true);
+
+        verify(primary, times(2)).getConnection();
+        verify(replica, never()).getConnection();
+
+        // Looked up once per request, by token and user
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(pins).multiGet(keys.capture());
+        assertThat(keys.getValue())
+            .containsExactly("primary-sticky:token:other-token", "primary-sticky:user:" + userId);
+    }
+
+    @Test
+    void unpinnedRequestReadsFromTheReplica() throws SQLException {
+        authenticate(UUID.randomUUID(), "token");
+        when(pins.multiGet(anyCollection())).thenReturn(Arrays.asList(null, null));
+        stickiness.beginRequest("token");
+
+        runInTransaction(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void pinLookupFailureFallsBackToThePrimary() throws SQLException {
+        when(pins.multiGet(anyCollection())).thenThrow(new RedisConnectionFailureException("down"));
+        stickiness.beginRequest("token");
+
+        runInTransaction(true);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void asyncPinIsVisibleToLaterRequests() throws SQLException {
+        UUID userId = UUID.randomUUID();
+        stickiness.pin(userId);
+        verify(pins).set("primary-sticky:user:" + userId, Boolean.TRUE, WINDOW);
+
+        // Same node: answered from the local copy without asking Redis
+        authenticate(userId, "token");
+        stickiness.beginRequest("token");
+        runInTransaction(true);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+        verify(pins, never()).multiGet(anyCollection());
+    }
+
+    @Test
+    void cacheLoadsReadFromThePrimary() throws SQLException {
+        PrimaryStickiness.onPrimary(() -> {
+            runInTransaction(true);
+            return null;
+        });
+        runInTransaction(true);
+
+        verify(primary).getConnection();
+        verify(replica).getConnection();
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPin() throws SQLException {
+        stickiness.beginRequest("token");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            touchConnection();
+            status.setRollbackOnly();
+        });
+        runInTransaction(true);
+
+        verify(primary).getConnection();
+        verify(replica).getConnection();
+        verify(pins, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    private void runInTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> touchConnection());
+    }
+
+    // The lazy proxy only fetches a physical connection, and so only routes, on first use
+    private void touchConnection() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void authenticate(UUID userId, String token) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new PreAuthenticatedAuthenticationToken(new SessionPrincipal(userId, null), token, List.of()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.warriorfoot.api.datasource;
+
+import com.warriorfoot.api.repository.UserRepository;
+import com.warriorfoot.api.security.SessionPrincipal;
+import com.warriorfoot.api.support.IntegrationTest;
+import com.warriorfoot.api.support.TestUsers;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the application's own primary/replica wiring (DataSourceConfig under the replica
+ * profile) with JPA transactions. Both pools point at the test database; the replica pool's
+ * connections are read-only, so a write routed there would fail. Which pool served a
+ * transaction is read from the pools' active connection counts while it is open.
+ */
+@SpringBootTest(properties = "warriorfoot.league-pool.enabled=false")
+@ActiveProfiles("replica")
+class ReplicaRoutingIntegrationTest extends IntegrationTest {
+
+    @DynamicPropertySource
+    static void twoDataSources(DynamicPropertyRegistry registry) {
+        // DataSourceConfig builds its pools from properties, not from the service connection
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("warriorfoot.datasource.replica.url", POSTGRES::getJdbcUrl);
+        registry.add("warriorfoot.datasource.replica.username", POSTGRES::getUsername);
+        registry.add("warriorfoot.datasource.replica.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PrimaryStickiness stickiness;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        stickiness.endRequest();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void runsOnJpaTransactions() {
+        assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(poolServing(true, () -> userRepository.count())).isSameAs(replica);
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        // Flushed inside the transaction, so the insert runs while the connection is observed
+        assertThat(poolServing(false, () -> {
+            TestUsers.create(userRepository, "Routing");
+            userRepository.flush();
+        })).isSameAs(primary);
+    }
+
+    @Test
+    void repositoryReadsOutsideATransactionUseTheReplica() {
+        UUID userId = TestUsers.create(userRepository, "Routing");
+        Counter replicaRoutes = meterRegistry.counter("warriorfoot.datasource.route", "target", "replica");
+        double before = replicaRoutes.count();
+
+        // SimpleJpaRepository reads are @Transactional(readOnly = true); the replica may lag
+        userRepository.findById(userId);
+
+        assertThat(replicaRoutes.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void readsAfterAWriteInTheSameRequestUseThePrimary() {
+        stickiness.beginRequest(null);
+
+        TestUsers.create(userRepository, "Routing");
+
+        assertThat(poolServing(true, () -> userRepository.count())).isSameAs(primary);
+    }
+
+    @Test
+    void pinRecordedByAnotherNodeRoutesReadsToThePrimary() {
+        UUID userId = TestUsers.create(userRepository, "Routing");
+        PrimaryStickiness otherNode = new PrimaryStickiness(redisTemplate, Duration.ofSeconds(30), 100);
+        otherNode.pin(userId);
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new PreAuthenticatedAuthenticationToken(new SessionPrincipal(userId, null), "token", List.of()));
+        stickiness.beginRequest("token");
+
+        assertThat(poolServing(true, () -> userRepository.count())).isSameAs(primary);
+    }
+
+    @Test
+    void cacheLoadsUseThePrimary() {
+        assertThat(PrimaryStickiness.onPrimary(() -> poolServing(true, () -> userRepository.count())))
+            .isSameAs(primary);
+    }
+
+    // Runs the action in a transaction and returns the pool holding its connection
+    private HikariDataSource poolServing(boolean readOnly, Runnable action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> {
+            int primaryBefore = activeConnections(primary);
+            int replicaBefore = activeConnections(replica);
+            action.run();
+            if (activeConnections(replica) > replicaBefore) {
+                return replica;
+            }
+            return activeConnections(primary) > primaryBefore ? primary : null;
+        });
+    }
+
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.warriorfoot.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionRevocationListTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ZSetOperations<String, Object> revoked;
+    private SessionRevocationList revocationList;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        revoked = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(revoked);
+        revocationList = new SessionRevocationList(redisTemplate, mock(RedisMessageListenerContainer.class),
+            new SimpleMeterRegistry(), 1_000, 0.001);
+    }
+
+    @Test
+    void transientStoreFailureIsRetried() {
+        when(revoked.add(anyString(), any(), anyDouble()))
+            .thenThrow(new RedisConnectionFailureException("down"))
+            .thenReturn(true);
+
+        revocationList.revoke("token-id", EXPIRES_AT);
+
+        verify(revoked, times(2)).add("session:revoked", "token-id", EXPIRES_AT.getEpochSecond());
+        verify(redisTemplate).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    void revocationThatCannotBeStoredFails() {
+        when(revoked.add(anyString(), any(), anyDouble())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> revocationList.revoke("token-id", EXPIRES_AT))
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(RedisConnectionFailureException.class);
+
+        // Other nodes are not told about a revocation Redis does not hold
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,159 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.repository.PlayerBulkRepository;
+import com.warriorfoot.api.repository.UserRepository;
+import com.warriorfoot.api.support.IntegrationTest;
+import com.warriorfoot.api.support.RoundTripCounter;
+import com.warriorfoot.api.support.TestUsers;
+import com.warriorfoot.api.util.LeagueGenerator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures what provisioning one fully stored league (32 teams, 704 players) costs in database
+ * round trips and wall time, before and after the batched write path.
+ * <p>
+ * Baseline: before the batch path every row was its own INSERT. Generating a league took
+ * 1 league + 32 teams + 704 players + the commit = 738 round trips, and 739 with the signup's
+ * membership row. The batched path sends the teams as one batch and the players as two.
+ * {@link #batchedWriteAgainstPerRowBaseline} re-measures the per-row pattern against the same
+ * database on every run, so its logged wall times compare like with like.
+ */
+@SpringBootTest(properties = {
+    "warriorfoot.league.storage-mode=EAGER",
+    "warriorfoot.league-pool.enabled=false"
+})
+class LeagueProvisioningRoundTripTest extends IntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LeagueProvisioningRoundTripTest.class);
+
+    private static final int WARMUP_LEAGUES = 3;
+    private static final int MEASURED_LEAGUES = 10;
+    private static final long MAX_ROUND_TRIPS_PER_LEAGUE = 20;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? RoundTripCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private LeagueService leagueService;
+
+    @Autowired
+    private LeagueGenerationService leagueGenerationService;
+
+    @Autowired
+    private PlayerBulkRepository playerBulkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void provisioningALeagueTakesAConstantNumberOfRoundTrips() {
+        for (int i = 0; i < WARMUP_LEAGUES; i++) {
+            leagueService.createLeagueForUser(TestUsers.create(userRepository, "Round Trip"), "Warmup " + i);
+        }
+
+        Measurement provisioning = measure("Provisioning", i -> {
+            UUID userId = TestUsers.create(userRepository, "Round Trip");
+            return () -> leagueService.createLeagueForUser(userId, "Measured " + i);
+        });
+
+        assertThat(provisioning.maxRoundTrips()).isLessThanOrEqualTo(MAX_ROUND_TRIPS_PER_LEAGUE);
+    }
+
+    @Test
+    void batchedWriteAgainstPerRowBaseline() {
+        for (int i = 0; i < WARMUP_LEAGUES; i++) {
+            leagueGenerationService.generateLeague("Warmup batched " + i, false);
+            generateLeaguePerRow("Warmup per-row " + i);
+        }
+
+        Measurement perRow = measure("Per-row baseline", i -> () -> generateLeaguePerRow("Per-row " + i));
+        Measurement batched = measure("Batched",
+            i -> () -> leagueGenerationService.generateLeague("Batched " + i, false));
+
+        log.info("Round trips per league: {} -> {}; average wall time: {} ms -> {} ms",
+            perRow.maxRoundTrips(), batched.maxRoundTrips(), perRow.averageMillis(), batched.averageMillis());
+        assertThat(perRow.maxRoundTrips()).isGreaterThanOrEqualTo(1 + 32 + 704);
+        assertThat(batched.maxRoundTrips()).isLessThanOrEqualTo(MAX_ROUND_TRIPS_PER_LEAGUE);
+    }
+
+    // The write pattern the batch path replaced: one INSERT per league, team and player row
+    private void generateLeaguePerRow(String leagueName) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+
+            LeagueGenerator generator = new LeagueGenerator(ThreadLocalRandom.current().nextLong());
+            League league = new League();
+            league.setName(leagueName);
+            league.setSeed(generator.getSeed());
+            entityManager.persist(league);
+
+            LeagueGenerator.GeneratedLeague generated = generator.generate(league);
+            generated.teams().forEach(entityManager::persist);
+            entityManager.flush();
+            generated.players().forEach(player -> playerBulkRepository.insertAll(List.of(player)));
+        });
+    }
+
+    // Each league's setup runs unmeasured; only the returned action is counted and timed
+    private Measurement measure(String label, IntFunction<Runnable> leagues) {
+        long maxRoundTrips = 0;
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURED_LEAGUES; i++) {
+            Runnable action = leagues.apply(i);
+
+            RoundTripCounter.start();
+            long start = System.nanoTime();
+            action.run();
+            long elapsed = System.nanoTime() - start;
+            RoundTripCounter.Counts counts = RoundTripCounter.stop();
+
+            log.info("{} league {}: {} round trips ({} statements, {} commits) in {} ms", label,
+                i, counts.roundTrips(), counts.statements(), counts.commits(), elapsed / 1_000_000.0);
+            maxRoundTrips = Math.max(maxRoundTrips, counts.roundTrips());
+            totalNanos += elapsed;
+        }
+
+        Measurement measurement = new Measurement(maxRoundTrips, totalNanos / MEASURED_LEAGUES / 1_000_000.0);
+        log.info("{}: at most {} round trips and {} ms on average per league",
+            label, measurement.maxRoundTrips(), measurement.averageMillis());
+        return measurement;
+    }
+
+    private record Measurement(long maxRoundTrips, double averageMillis) {}
+}
@@ -0,0 +1,95 @@
+package com.warriorfoot.api.service;
+
+import com.warriorfoot.api.cache.LeagueDashboardCache;
+import com.warriorfoot.api.cache.ReadModelCache;
+import com.warriorfoot.api.model.dto.LeagueDTO;
+import com.warriorfoot.api.model.dto.TeamDTO;
+import com.warriorfoot.api.model.entity.UserLeague;
+import com.warriorfoot.api.repository.UserRepository;
+import com.warriorfoot.api.support.IntegrationTest;
+import com.warriorfoot.api.support.TestUsers;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caps the number of SQL statements behind the cache-miss path of the dashboard and team reads,
+ * so an N+1 (e.g. a lazy manager or team per membership) fails the build.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "warriorfoot.league-pool.enabled=false"
+})
+class ReadPathStatementCountTest extends IntegrationTest {
+
+    private static final String MANAGER_NAME = "Statement Count Manager";
+
+    @Autowired
+    private LeagueService leagueService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LeagueDashboardCache leagueDashboardCache;
+
+    @Autowired
+    private ReadModelCache readModelCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID leagueId;
+    private UUID teamId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Two managers, so the dashboard has more than one membership to resolve
+        UserLeague membership = leagueService.createNewLeagueForUser(
+            TestUsers.create(userRepository, MANAGER_NAME), "Statement Count");
+        leagueId = membership.getLeagueId();
+        teamId = membership.getTeam().getId();
+        leagueService.assignUserToLeague(TestUsers.create(userRepository, MANAGER_NAME), leagueId);
+    }
+
+    @Test
+    void leagueDashboardMissRunsAtMostThreeStatements() {
+        leagueDashboardCache.evict(leagueId);
+        statistics.clear();
+
+        LeagueDTO dashboard = leagueService.getLeagueDashboard(leagueId);
+
+        // League version, teams, memberships with their users and teams
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(dashboard.divisions().values().stream().mapToInt(List::size).sum()).isEqualTo(32);
+        assertThat(dashboard.divisions().values().stream().flatMap(List::stream)
+            .filter(team -> !team.managerName().equals("No Manager"))).hasSize(2);
+    }
+
+    @Test
+    void teamMissRunsAtMostTwoStatements() {
+        readModelCache.teams().evict(teamId);
+        statistics.clear();
+
+        TeamDTO team = teamService.getTeamById(teamId);
+
+        // Team row, manager name
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(team.managerName()).isEqualTo(MANAGER_NAME);
+    }
+}
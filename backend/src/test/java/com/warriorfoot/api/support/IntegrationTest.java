@@ -0,0 +1,25 @@
+package com.warriorfoot.api.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base for tests that run against the real schema. One PostgreSQL and one Redis container are
+ * started per test run and shared by every subclass; Spring picks them up through
+ * {@link ServiceConnection}.
+ */
+public abstract class IntegrationTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withUrlParam("reWriteBatchedInserts", "true");
+
+    @ServiceConnection(name = "redis")
+    protected static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    static {
+        POSTGRES.start();
+        REDIS.start();
+    }
+}
@@ -0,0 +1,83 @@
+package com.warriorfoot.api.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Counts the JDBC round trips made by the current thread between {@link #start} and
+ * {@link #stop}: every execute call (a whole batch counts once) and every commit. Covers both
+ * Hibernate and JdbcTemplate, since it sits on the DataSource they share.
+ */
+public final class RoundTripCounter {
+
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    public record Counts(long statements, long commits) {
+
+        public long roundTrips() {
+            return statements + commits;
+        }
+    }
+
+    private RoundTripCounter() {
+    }
+
+    public static void start() {
+        COUNTS.set(new long[2]);
+    }
+
+    public static Counts stop() {
+        long[] counts = COUNTS.get();
+        COUNTS.remove();
+        return new Counts(counts[0], counts[1]);
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource);
+    }
+
+    private static <T> T proxy(Class<T> type, Object target) {
+        return type.cast(Proxy.newProxyInstance(RoundTripCounter.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+
+                String name = method.getName();
+                if (type == Connection.class) {
+                    if (name.equals("commit")) {
+                        record(1);
+                    }
+                    if (result instanceof CallableStatement statement) {
+                        return proxy(CallableStatement.class, statement);
+                    }
+                    if (result instanceof PreparedStatement statement) {
+                        return proxy(PreparedStatement.class, statement);
+                    }
+                    if (result instanceof Statement statement) {
+                        return proxy(Statement.class, statement);
+                    }
+                } else if (result instanceof Connection connection) {
+                    return proxy(Connection.class, connection);
+                } else if (type != DataSource.class && name.startsWith("execute")) {
+                    record(0);
+                }
+                return result;
+            }));
+    }
+
+    private static void record(int index) {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[index]++;
+        }
+    }
+}
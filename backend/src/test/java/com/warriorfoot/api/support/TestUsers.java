@@ -0,0 +1,24 @@
+package com.warriorfoot.api.support;
+
+import com.warriorfoot.api.model.entity.User;
+import com.warriorfoot.api.repository.UserRepository;
+
+import java.util.UUID;
+
+/**
+ * User fixtures for integration tests. Each user gets a unique email, so tests can share one
+ * database without cleaning up.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static UUID create(UserRepository userRepository, String fullName) {
+        User user = new User();
+        user.setFullName(fullName);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        return userRepository.save(user).getId();
+    }
+}
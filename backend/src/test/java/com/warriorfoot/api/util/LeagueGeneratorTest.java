@@ -0,0 +1,49 @@
+package com.warriorfoot.api.util;
+
+import com.warriorfoot.api.model.entity.League;
+import com.warriorfoot.api.model.entity.Player;
+import com.warriorfoot.api.model.entity.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeagueGeneratorTest {
+
+    @Test
+    void storedRostersHaveTheSeedOnlyIds() {
+        LeagueGenerator.GeneratedLeague generated = new LeagueGenerator(42L).generate(new League());
+
+        List<UUID> regenerated = generated.teams().stream()
+            .flatMap(team -> LeagueGenerator.generateVirtualRoster(team).stream())
+            .map(Player::getId)
+            .toList();
+        assertThat(generated.players()).extracting(Player::getId).containsExactlyElementsOf(regenerated);
+    }
+
+    @Test
+    void sameSeedGivesSameIds() {
+        List<UUID> first = ids(new LeagueGenerator(42L).generate(new League()));
+        List<UUID> second = ids(new LeagueGenerator(42L).generate(new League()));
+
+        assertThat(first).doesNotContainNull().doesNotHaveDuplicates().isEqualTo(second);
+    }
+
+    @Test
+    void idsEncodeRosterSeedAndSlot() {
+        Team team = new LeagueGenerator(42L).generateTeams(new League()).get(0);
+        List<Player> roster = LeagueGenerator.generateVirtualRoster(team);
+
+        for (int slot = 0; slot < roster.size(); slot++) {
+            UUID id = roster.get(slot).getId();
+            assertThat(LeagueGenerator.rosterSeedOf(id)).isEqualTo(team.getRosterSeed());
+            assertThat(LeagueGenerator.slotOf(id)).isEqualTo(slot);
+        }
+    }
+
+    private static List<UUID> ids(LeagueGenerator.GeneratedLeague generated) {
+        return generated.players().stream().map(Player::getId).toList();
+    }
+}
@@ -0,0 +1,145 @@
+import type { PlayerDetails } from '../types/player';
+import type { PlayerInfo, TeamInfo } from '../types/team';
+
+// Decoder for the backend's BinaryCodec (application/vnd.warriorfoot.binary). Keep in sync with
+// backend/src/main/java/com/warriorfoot/api/codec/BinaryCodec.java.
+
+export const BINARY_MEDIA_TYPE = 'application/vnd.warriorfoot.binary';
+
+const TAG_PLAYER = 1;
+const TAG_PLAYER_DETAILS = 2;
+const TAG_TEAM = 3;
+const LIST_FLAG = 0x80;
+const NULL_STRING = 0xffff;
+
+const POSITIONS = ['GK', 'DF', 'MF', 'FW'];
+
+// Same order as Player.Stat on the backend
+const STAT_FIELDS = [
+  'pace', 'acceleration', 'sprintSpeed',
+  'shooting', 'attPosition', 'finishing', 'shotPower', 'longShots', 'volleys', 'penalties',
+  'passing', 'vision', 'crossing', 'fkAcc', 'shortPass', 'longPass', 'curve',
+  'dribbling', 'agility', 'balance', 'reactions', 'ballControl', 'dribblingSkill', 'composure',
+  'defending', 'interceptions', 'headingAcc', 'defAware', 'standTackle', 'slideTackle',
+  'physical', 'jumping', 'stamina', 'strength', 'aggression',
+  'diving', 'handling', 'kicking', 'reflexes', 'speed', 'positioning',
+] as const;
+
+const textDecoder = new TextDecoder();
+const HEX = Array.from({ length: 256 }, (_, i) => i.toString(16).padStart(2, '0'));
+
+class Reader {
+  private offset = 0;
+  private readonly bytes: Uint8Array;
+  private readonly view: DataView;
+
+  constructor(bytes: Uint8Array) {
+    this.bytes = bytes;
+    this.view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+  }
+
+  u8(): number {
+    return this.view.getUint8(this.offset++);
+  }
+
+  i32(): number {
+    const value = this.view.getInt32(this.offset);
+    this.offset += 4;
+    return value;
+  }
+
+  i64(): number {
+    const value = Number(this.view.getBigInt64(this.offset));
+    this.offset += 8;
+    return value;
+  }
+
+  uuid(): string {
+    let hex = '';
+    for (let i = 0; i < 16; i++) {
+      hex += HEX[this.bytes[this.offset + i]];
+    }
+    this.offset += 16;
+    return `${hex.slice(0, 8)}-${hex.slice(8, 12)}-${hex.slice(12, 16)}-${hex.slice(16, 20)}-${hex.slice(20)}`;
+  }
+
+  string(): string | null {
+    const length = this.view.getUint16(this.offset);
+    this.offset += 2;
+    if (length === NULL_STRING) return null;
+    const value = textDecoder.decode(this.bytes.subarray(this.offset, this.offset + length));
+    this.offset += length;
+    return value;
+  }
+}
+
+function readPlayer(r: Reader): PlayerInfo {
+  return {
+    id: r.uuid(),
+    name: r.string() ?? '',
+    age: r.u8(),
+    position: POSITIONS[r.u8()],
+    overall: r.u8(),
+    marketValue: r.i64(),
+  };
+}
+
+function readPlayerDetails(r: Reader): PlayerDetails {
+  const details: Record<string, unknown> = { ...readPlayer(r) };
+  for (const field of STAT_FIELDS) {
+    const stat = r.u8();
+    details[field] = stat === 0 ? null : stat;
+  }
+  return details as PlayerDetails;
+}
+
+function readTeam(r: Reader): TeamInfo {
+  return {
+    id: r.uuid(),
+    name: r.string() ?? '',
+    colorPrimary: r.string() ?? '',
+    colorSecondary: r.string() ?? '',
+    divisionLevel: r.u8(),
+    managerName: r.string() ?? '',
+  };
+}
+
+function readElement(tag: number, r: Reader): unknown {
+  switch (tag) {
+    case TAG_PLAYER:
+      return readPlayer(r);
+    case TAG_PLAYER_DETAILS:
+      return readPlayerDetails(r);
+    case TAG_TEAM:
+      return readTeam(r);
+    default:
+      throw new Error(`Unknown binary tag ${tag}`);
+  }
+}
+
+export function decode<T>(buffer: ArrayBuffer): T {
+  const r = new Reader(new Uint8Array(buffer));
+  const tag = r.u8();
+  if ((tag & LIST_FLAG) === 0) {
+    return readElement(tag, r) as T;
+  }
+
+  const count = r.i32();
+  const items: unknown[] = new Array(count);
+  for (let i = 0; i < count; i++) {
+    items[i] = readElement(tag & ~LIST_FLAG, r);
+  }
+  return items as T;
+}
+
+// Fetches a resource in the binary format and decodes it
+export async function fetchBinary<T>(url: string, init: RequestInit = {}): Promise<T> {
+  const headers = new Headers(init.headers);
+  headers.set('Accept', BINARY_MEDIA_TYPE);
+
+  const response = await fetch(url, { ...init, headers });
+  if (!response.ok) {
+    throw new Error(`Request failed with status ${response.status}`);
+  }
+  return decode<T>(await response.arrayBuffer());
+}
@@ -62,6 +62,23 @@ class ApiClient {
     return response.json();
   }
 
+  async switchActiveLeague(token: string, leagueId: string): Promise<{ sessionToken: string }> {
+    const response = await fetch(`${this.baseUrl}/auth/active-league`, {
+      method: 'POST',
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ leagueId }),
+    });
+
+    if (!response.ok) {
+      throw new Error('Failed to switch league');
+    }
+
+    return response.json();
+  }
+
   async logout(token: string): Promise<void> {
     await fetch(`${this.baseUrl}/auth/logout`, {
       method: 'POST',
@@ -10,6 +10,16 @@ export type UserLeague = {
   isCreator: boolean;
 };
 
+export type ProvisioningJob = {
+  jobId: string;
+  status: 'PENDING' | 'RUNNING' | 'READY' | 'FAILED';
+  leagueId: string | null;
+  teamId: string | null;
+  teamName: string | null;
+  divisionLevel: number | null;
+  error: string | null;
+};
+
 const getAuthHeader = () => {
   const stored = localStorage.getItem('auth-storage');
   if (!stored) return {};
@@ -53,6 +63,40 @@ export const leagueManagementApi = {
     return response.json();
   },
 
+  // Resolves to null when the provisioning queue is full; callers fall back to createNewLeague
+  createNewLeagueAsync: async (leagueName: string): Promise<{ jobId: string } | null> => {
+    const response = await fetch(`${API_BASE_URL}/leagues/create-async`, {
+      method: 'POST',
+      headers: {
+        ...getAuthHeader(),
+        'Content-Type': 'application/json',
+      },
+      body: JSON.stringify({ name: leagueName }),
+    });
+
+    if (response.status === 503) {
+      return null;
+    }
+
+    if (!response.ok) {
+      throw new Error('Failed to create new league');
+    }
+
+    return response.json();
+  },
+
+  getProvisioningJob: async (jobId: string): Promise<ProvisioningJob> => {
+    const response = await fetch(`${API_BASE_URL}/leagues/jobs/${jobId}`, {
+      headers: getAuthHeader(),
+    });
+
+    if (!response.ok) {
+      throw new Error('Failed to fetch league creation status');
+    }
+
+    return response.json();
+  },
+
   deleteLeague: async (leagueId: string): Promise<void> => {
     const response = await fetch(`${API_BASE_URL}/leagues/${leagueId}`, {
       method: 'DELETE',
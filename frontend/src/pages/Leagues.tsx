@@ -2,8 +2,12 @@ import { useEffect, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuthStore } from '../store/authStore';
 import { leagueManagementApi, type UserLeague } from '../api/leagueManagementApi';
+import { apiClient } from '../api/client';
 import { ConfirmDialog } from '../components/ConfirmDialog';
 
+const PROVISIONING_POLL_MS = 500;
+const PROVISIONING_MAX_POLLS = 120;
+
 type ConfirmDialogState = {
   isOpen: boolean;
   title: string;
@@ -53,20 +57,50 @@ export default function LeaguesPage() {
 
     setCreating(true);
     try {
-      const newLeague = await leagueManagementApi.createNewLeague(leagueName.trim());
+      const newLeague = await createLeague(leagueName.trim());
       await loadLeagues();
-      handleSelectLeague(newLeague.leagueId, newLeague.teamId);
+      await handleSelectLeague(newLeague.leagueId, newLeague.teamId);
+      setCreating(false);
     } catch (error) {
       console.error('Failed to create league:', error);
       setCreating(false);
     }
   };
 
-  const handleSelectLeague = (leagueId: string, teamId: string) => {
+  // Generation runs as a background job; fall back to the blocking endpoint if the queue is full
+  const createLeague = async (leagueName: string): Promise<{ leagueId: string; teamId: string }> => {
+    const submitted = await leagueManagementApi.createNewLeagueAsync(leagueName);
+    if (!submitted) {
+      return leagueManagementApi.createNewLeague(leagueName);
+    }
+
+    for (let attempt = 0; attempt < PROVISIONING_MAX_POLLS; attempt++) {
+      await new Promise((resolve) => setTimeout(resolve, PROVISIONING_POLL_MS));
+      const job = await leagueManagementApi.getProvisioningJob(submitted.jobId);
+      if (job.status === 'READY' && job.leagueId && job.teamId) {
+        return { leagueId: job.leagueId, teamId: job.teamId };
+      }
+      if (job.status === 'FAILED') {
+        throw new Error(job.error ?? 'Failed to create new league');
+      }
+    }
+    throw new Error('League creation timed out');
+  };
+
+  const handleSelectLeague = async (leagueId: string, teamId: string) => {
     if (!sessionToken || !userId || !email || !fullName) return;
 
+    // The server keeps the active league in the session; signed sessions come back with a new token
+    let activeToken = sessionToken;
+    try {
+      activeToken = (await apiClient.switchActiveLeague(sessionToken, leagueId)).sessionToken;
+    } catch (error) {
+      console.error('Failed to switch league:', error);
+      return;
+    }
+
     setAuth({
-      sessionToken,
+      sessionToken: activeToken,
       userId,
       fullName,
       email,